@@ -0,0 +1,95 @@
+package com.basic.commonview.datePicker;
+
+import android.graphics.Color;
+import android.test.AndroidTestCase;
+
+import com.basic.commonview.datePicker.adapter.ArrayWheelAdapter;
+import com.basic.commonview.datePicker.adapter.WheelDataObserver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Checks the changes ArrayWheelAdapter.setItems reports and that the wheel
+ * keeps its current item on the same item.
+ */
+public class ArrayWheelAdapterDiffTest extends AndroidTestCase {
+
+    public void testInsertsAroundCurrentItem() {
+        final String[] oldItems = {"A", "B", "C", "D", "E"};
+        final String[] newItems = {"X", "A", "B", "C", "Y", "D", "E"};
+        final List<String> events = new ArrayList<String>();
+        final int[] currentItem = new int[1];
+        WheelScrollDriver.runOnMainThread(new Runnable() {
+            @Override
+            public void run() {
+                ArrayWheelAdapter<String> adapter = new ArrayWheelAdapter<String>(getContext(),
+                        oldItems, Color.BLACK, 20);
+                WheelView wheel = new WheelView(getContext());
+                wheel.setViewAdapter(adapter);
+                wheel.setCurrentItem(2);
+                adapter.registerDataSetObserver(new RecordingObserver(events));
+                adapter.setItems(newItems);
+                currentItem[0] = wheel.getCurrentItem();
+            }
+        });
+
+        assertEquals(Arrays.asList("inserted 3 1", "inserted 0 1"), events);
+        assertEquals("C", newItems[currentItem[0]]);
+    }
+
+    public void testReplaceAndRemove() {
+        final String[] oldItems = {"A", "B", "C", "D", "E"};
+        final String[] newItems = {"A", "Z", "C", "E"};
+        final List<String> events = new ArrayList<String>();
+        final int[] currentItem = new int[1];
+        WheelScrollDriver.runOnMainThread(new Runnable() {
+            @Override
+            public void run() {
+                ArrayWheelAdapter<String> adapter = new ArrayWheelAdapter<String>(getContext(),
+                        oldItems, Color.BLACK, 20);
+                WheelView wheel = new WheelView(getContext());
+                wheel.setViewAdapter(adapter);
+                wheel.setCurrentItem(4);
+                adapter.registerDataSetObserver(new RecordingObserver(events));
+                adapter.setItems(newItems);
+                currentItem[0] = wheel.getCurrentItem();
+            }
+        });
+
+        assertEquals(Arrays.asList("removed 3 1", "changed 1 1"), events);
+        assertEquals("E", newItems[currentItem[0]]);
+    }
+
+    /**
+     * Observer recording range events.
+     */
+    private static class RecordingObserver extends WheelDataObserver {
+        private final List<String> mEvents;
+
+        RecordingObserver(List<String> events) {
+            mEvents = events;
+        }
+
+        @Override
+        public void onChanged() {
+            mEvents.add("changed");
+        }
+
+        @Override
+        public void onItemRangeChanged(int start, int count) {
+            mEvents.add("changed " + start + " " + count);
+        }
+
+        @Override
+        public void onItemRangeInserted(int start, int count) {
+            mEvents.add("inserted " + start + " " + count);
+        }
+
+        @Override
+        public void onItemRangeRemoved(int start, int count) {
+            mEvents.add("removed " + start + " " + count);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.basic.commonview.datePicker;
+
+import android.graphics.Canvas;
+import android.os.Debug;
+import android.os.Handler;
+import android.os.Looper;
+
+import com.basic.commonview.datePicker.listener.OnWheelScrollListener;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs wheel scrolls started with {@link WheelView#scroll(int, int)} on the
+ * main thread, drawing the wheel on every frame like an attached wheel is
+ * drawn. Wheels must be created on the main thread, see
+ * {@link #runOnMainThread(Runnable)}.
+ */
+final class WheelScrollDriver {
+
+    /**
+     * Callback of drawn frames.
+     */
+    interface FrameListener {
+        /**
+         * Called on the main thread after the wheel is drawn.
+         *
+         * @param wheel the wheel
+         */
+        void onFrame(WheelView wheel);
+    }
+
+    private static final long FRAME_DELAY = 16;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private static final Handler MAIN_HANDLER = new Handler(Looper.getMainLooper());
+
+    private final WheelView mWheel;
+    private final Canvas mCanvas;
+
+    // State of the running scroll, touched on the main thread only
+    private FrameListener mFrameListener;
+    private boolean mCountAllocations;
+    private boolean mScrolling;
+    private int mAllocations;
+    private CountDownLatch mFinished;
+
+    private final Runnable mFrame = new Runnable() {
+        @Override
+        public void run() {
+            mWheel.draw(mCanvas);
+            if (mFrameListener != null) {
+                mFrameListener.onFrame(mWheel);
+            }
+            if (mScrolling) {
+                MAIN_HANDLER.postDelayed(this, FRAME_DELAY);
+            }
+        }
+    };
+
+    // Registered once, so the wheel's listener snapshot is built by the first scroll
+    private final OnWheelScrollListener mScrollListener = new OnWheelScrollListener() {
+        @Override
+        public void onScrollingStarted(WheelView wheel) {
+        }
+
+        @Override
+        public void onScrollingFinished(WheelView wheel) {
+            if (mCountAllocations) {
+                Debug.stopAllocCounting();
+                mAllocations = Debug.getThreadAllocCount();
+            }
+            mScrolling = false;
+            mFinished.countDown();
+        }
+    };
+
+    /**
+     * Constructor.
+     *
+     * @param wheel  the wheel, measured and laid out
+     * @param canvas the canvas the wheel is drawn on
+     */
+    WheelScrollDriver(WheelView wheel, Canvas canvas) {
+        mWheel = wheel;
+        mCanvas = canvas;
+        runOnMainThread(new Runnable() {
+            @Override
+            public void run() {
+                mWheel.addScrollingListener(mScrollListener);
+            }
+        });
+    }
+
+    /**
+     * Scrolls wheel and waits until the scrolling finishes.
+     *
+     * @param itemsToScroll    the items to scroll
+     * @param time             the scrolling duration
+     * @param listener         the frame listener, may be null
+     * @param countAllocations true to count main thread allocations while scrolling
+     * @return the count of allocations, 0 if they are not counted
+     */
+    int scroll(final int itemsToScroll, final int time, final FrameListener listener,
+            final boolean countAllocations) {
+        final CountDownLatch finished = new CountDownLatch(1);
+        runOnMainThread(new Runnable() {
+            @Override
+            public void run() {
+                mFrameListener = listener;
+                mCountAllocations = countAllocations;
+                mAllocations = 0;
+                mFinished = finished;
+                mScrolling = true;
+                if (countAllocations) {
+                    Debug.resetThreadAllocCount();
+                    Debug.startAllocCounting();
+                }
+                mWheel.scroll(itemsToScroll, time);
+                MAIN_HANDLER.post(mFrame);
+            }
+        });
+        await(finished);
+        final int[] allocations = new int[1];
+        runOnMainThread(new Runnable() {
+            @Override
+            public void run() {
+                MAIN_HANDLER.removeCallbacks(mFrame);
+                allocations[0] = mAllocations;
+            }
+        });
+        return allocations[0];
+    }
+
+    /**
+     * Runs task on the main thread and waits for it.
+     *
+     * @param task the task
+     */
+    static void runOnMainThread(final Runnable task) {
+        final CountDownLatch done = new CountDownLatch(1);
+        final RuntimeException[] error = new RuntimeException[1];
+        MAIN_HANDLER.post(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    error[0] = e;
+                }
+                done.countDown();
+            }
+        });
+        await(done);
+        if (error[0] != null) {
+            throw error[0];
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new AssertionError("Timed out waiting for the main thread");
+            }
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
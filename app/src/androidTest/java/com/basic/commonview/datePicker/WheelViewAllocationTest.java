@@ -0,0 +1,98 @@
+package com.basic.commonview.datePicker;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.test.AndroidTestCase;
+import android.view.View;
+import android.view.View.MeasureSpec;
+import android.view.ViewGroup;
+import android.widget.LinearLayout;
+
+import com.basic.commonview.datePicker.adapter.AbstractWheelAdapter;
+import com.basic.commonview.datePicker.adapter.ArrayWheelAdapter;
+
+/**
+ * Checks that scrolling and drawing a wheel does not allocate per frame.
+ */
+public class WheelViewAllocationTest extends AndroidTestCase {
+
+    private static final int ITEMS_COUNT = 100;
+    private static final int ITEM_HEIGHT = 40;
+    private static final int WIDTH = 200;
+    private static final int HEIGHT = 400;
+    private static final int SCROLL_ITEMS = 30;
+    private static final int SCROLL_TIME = 1000;
+
+    public void testTextFlingDoesNotAllocate() {
+        final WheelView[] wheel = new WheelView[1];
+        WheelScrollDriver.runOnMainThread(new Runnable() {
+            @Override
+            public void run() {
+                String[] items = new String[ITEMS_COUNT];
+                for (int i = 0; i < ITEMS_COUNT; i++) {
+                    items[i] = String.valueOf(i);
+                }
+                wheel[0] = new WheelView(getContext());
+                wheel[0].setViewAdapter(new ArrayWheelAdapter<String>(getContext(), items,
+                        Color.BLACK, 20));
+                wheel[0].setDrawTextDirectly(true);
+                wheel[0].setCyclic(true);
+                layout(wheel[0]);
+            }
+        });
+        assertScrollDoesNotAllocate(wheel[0]);
+    }
+
+    public void testItemViewFlingDoesNotAllocate() {
+        final WheelView[] wheel = new WheelView[1];
+        WheelScrollDriver.runOnMainThread(new Runnable() {
+            @Override
+            public void run() {
+                wheel[0] = new WheelView(getContext());
+                // plain views, so only the wheel rebuilding and drawing rows is counted
+                wheel[0].setViewAdapter(new FixedViewAdapter());
+                wheel[0].setCyclic(true);
+                layout(wheel[0]);
+            }
+        });
+        assertScrollDoesNotAllocate(wheel[0]);
+    }
+
+    private static void layout(WheelView wheel) {
+        wheel.measure(MeasureSpec.makeMeasureSpec(WIDTH, MeasureSpec.EXACTLY),
+                MeasureSpec.makeMeasureSpec(HEIGHT, MeasureSpec.EXACTLY));
+        wheel.layout(0, 0, WIDTH, HEIGHT);
+    }
+
+    private static void assertScrollDoesNotAllocate(WheelView wheel) {
+        Canvas canvas = new Canvas(Bitmap.createBitmap(WIDTH, HEIGHT, Bitmap.Config.ARGB_8888));
+        WheelScrollDriver driver = new WheelScrollDriver(wheel, canvas);
+
+        // warm up lazily created resources and pooled views
+        driver.scroll(SCROLL_ITEMS, SCROLL_TIME, null, false);
+
+        assertEquals(0, driver.scroll(-SCROLL_ITEMS, SCROLL_TIME, null, true));
+    }
+
+    /**
+     * Adapter of fixed size views that need no binding.
+     */
+    private class FixedViewAdapter extends AbstractWheelAdapter {
+        @Override
+        public int getItemsCount() {
+            return ITEMS_COUNT;
+        }
+
+        @Override
+        public View getItem(int index, View convertView, ViewGroup parent) {
+            if (convertView != null) {
+                return convertView;
+            }
+            View view = new View(getContext());
+            view.setLayoutParams(new LinearLayout.LayoutParams(
+                    LinearLayout.LayoutParams.MATCH_PARENT, ITEM_HEIGHT));
+            return view;
+        }
+    }
+}
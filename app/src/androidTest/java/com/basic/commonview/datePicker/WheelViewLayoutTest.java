@@ -0,0 +1,66 @@
+package com.basic.commonview.datePicker;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.test.AndroidTestCase;
+import android.view.View;
+import android.view.View.MeasureSpec;
+import android.widget.LinearLayout;
+
+import com.basic.commonview.datePicker.adapter.ArrayWheelAdapter;
+
+/**
+ * Checks that item views are laid out in rows while the wheel scrolls.
+ */
+public class WheelViewLayoutTest extends AndroidTestCase {
+
+    private static final int ITEMS_COUNT = 100;
+    private static final int WIDTH = 200;
+    private static final int HEIGHT = 400;
+    private static final int SCROLL_ITEMS = 12;
+    private static final int SCROLL_TIME = 600;
+
+    public void testRowsStayLaidOutWhileScrolling() {
+        final WheelView[] wheel = new WheelView[1];
+        WheelScrollDriver.runOnMainThread(new Runnable() {
+            @Override
+            public void run() {
+                String[] items = new String[ITEMS_COUNT];
+                for (int i = 0; i < ITEMS_COUNT; i++) {
+                    items[i] = String.valueOf(i);
+                }
+                wheel[0] = new WheelView(getContext());
+                wheel[0].setViewAdapter(new ArrayWheelAdapter<String>(getContext(), items,
+                        Color.BLACK, 20));
+                wheel[0].setCurrentItem(ITEMS_COUNT / 2);
+                wheel[0].measure(MeasureSpec.makeMeasureSpec(WIDTH, MeasureSpec.EXACTLY),
+                        MeasureSpec.makeMeasureSpec(HEIGHT, MeasureSpec.EXACTLY));
+                wheel[0].layout(0, 0, WIDTH, HEIGHT);
+            }
+        });
+        Canvas canvas = new Canvas(Bitmap.createBitmap(WIDTH, HEIGHT, Bitmap.Config.ARGB_8888));
+        WheelScrollDriver driver = new WheelScrollDriver(wheel[0], canvas);
+        final String[] failure = new String[1];
+        WheelScrollDriver.FrameListener checkRows = new WheelScrollDriver.FrameListener() {
+            @Override
+            public void onFrame(WheelView wheel) {
+                LinearLayout layout = wheel.getItemsLayout();
+                int top = 0;
+                for (int i = 0; i < layout.getChildCount() && failure[0] == null; i++) {
+                    View child = layout.getChildAt(i);
+                    if (child.getTop() != top || child.getHeight() == 0) {
+                        failure[0] = "row " + i + " at " + child.getTop() + " with height "
+                                + child.getHeight() + ", expected at " + top;
+                    }
+                    top = child.getBottom();
+                }
+            }
+        };
+
+        driver.scroll(SCROLL_ITEMS, SCROLL_TIME, checkRows, false);
+        assertNull(failure[0], failure[0]);
+        driver.scroll(-SCROLL_ITEMS, SCROLL_TIME, checkRows, false);
+        assertNull(failure[0], failure[0]);
+    }
+}
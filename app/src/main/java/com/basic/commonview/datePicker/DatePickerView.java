@@ -1,7 +1,6 @@
 package com.basic.commonview.datePicker;
 
 import android.content.Context;
-import android.content.res.Resources;
 import android.content.res.TypedArray;
 import android.graphics.Canvas;
 import android.graphics.Color;
@@ -16,12 +15,12 @@ import android.widget.LinearLayout;
 import android.widget.TextView;
 
 import com.basic.commonview.R;
-import com.basic.commonview.datePicker.WheelView.CurrentItemListener;
 import com.basic.commonview.datePicker.adapter.AbstractWheelTextAdapter;
+import com.basic.commonview.datePicker.adapter.NumericLabelFormatter;
+import com.basic.commonview.datePicker.adapter.NumericWheelAdapter;
 import com.basic.commonview.datePicker.listener.OnWheelChangedListener;
 import com.basic.commonview.util.Utility;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.HashMap;
@@ -32,7 +31,7 @@ import java.util.Map;
 /**
  * 年月日时分秒选择器,可选择时间样式.
  */
-public class DatePickerView extends LinearLayout implements CurrentItemListener {
+public class DatePickerView extends LinearLayout {
 
     /**
      * 年月日时样式.
@@ -91,13 +90,21 @@ public class DatePickerView extends LinearLayout implements CurrentItemListener
     private Calendar mMaxTimeCalendar;
     private Calendar mMinTimeCalender;
     private static final int DEFAULT_START_YEAR = 1970;
-    private static final int NUMBER_TEN = 10;
     private int mStartYear;
     private int mEndYear;
     private long mMaxTime;
     private long mMinTime;
     private int mStyleType;
     private boolean mFirstInit = false;
+    /**
+     * 所有滚轮共用的item view缓存池.
+     */
+    private WheelViewPool mViewPool;
+    /**
+     * 缓存池是否由本选择器创建,外部设置的缓存池回收时不清空.
+     */
+    private boolean mOwnsViewPool;
+    private static final int SHARED_POOL_SIZE = 16;
 
     /**
      * Constructor.
@@ -166,6 +173,11 @@ public class DatePickerView extends LinearLayout implements CurrentItemListener
         mCalendar.setTimeInMillis(second * DateUtils.SECOND_IN_MILLIS);
         mStartYear = mMinTimeCalender.get(Calendar.YEAR);
         mEndYear = mMaxTimeCalendar.get(Calendar.YEAR);
+        // 旧滚轮的item view放回共用缓存池，供新滚轮复用.
+        for (WheelView wheel : mWheelViewMap.values()) {
+            wheel.invalidateWheel(true);
+        }
+        mWheelViewMap.clear();
         removeAllViews();
         setGravity(Gravity.CENTER_VERTICAL);
         switch (mStyleType) {
@@ -206,6 +218,38 @@ public class DatePickerView extends LinearLayout implements CurrentItemListener
         mFirstInit = false;
     }
 
+    private WheelView createWheelView() {
+        WheelView wheel = new WheelView(getContext());
+        wheel.setViewPool(getViewPool());
+        // 选中行样式在绘制时处理，不再修改item view
+        wheel.setCenterTextStyle(mAxisTextColor, mAxisTextSize);
+        return wheel;
+    }
+
+    /**
+     * 获取所有滚轮共用的item view缓存池.
+     *
+     * @return 缓存池
+     */
+    public WheelViewPool getViewPool() {
+        if (mViewPool == null) {
+            mViewPool = new WheelViewPool(SHARED_POOL_SIZE);
+            mOwnsViewPool = true;
+        }
+        return mViewPool;
+    }
+
+    /**
+     * 设置所有滚轮共用的item view缓存池,可与其他选择器共用.
+     * 需在{@link #initDataPicker(long, int)}之前调用.
+     *
+     * @param viewPool 缓存池
+     */
+    public void setViewPool(WheelViewPool viewPool) {
+        mViewPool = viewPool;
+        mOwnsViewPool = false;
+    }
+
     private void initYear(int startYear, int endYear) {
         if (mYearWheelAdapter == null) {
             mYearWheelAdapter = new YearWheelAdapter(getContext(), startYear, endYear, mTextSize, mTextColor);
@@ -213,11 +257,10 @@ public class DatePickerView extends LinearLayout implements CurrentItemListener
         int position = mYearWheelAdapter.getYearPosition(mCalendar.get(Calendar.YEAR));
         LayoutParams layoutParams = new LayoutParams(0, LayoutParams.WRAP_CONTENT);
         layoutParams.weight = 1;
-        WheelView wheel = new WheelView(getContext());
+        WheelView wheel = createWheelView();
         wheel.setViewAdapter(mYearWheelAdapter);
         wheel.setVisibleItems(WHEEL_DEFAULT_ITEMS);
         wheel.setCurrentItem(position);
-        wheel.setCurrentItemListener(this);
         wheel.addChangingListener(new OnWheelChangedListener() {
             @Override
             public void onChanged(WheelView wheel, int oldValue, int newValue) {
@@ -236,12 +279,11 @@ public class DatePickerView extends LinearLayout implements CurrentItemListener
         }
         LayoutParams layoutParams = new LayoutParams(0, LayoutParams.WRAP_CONTENT);
         layoutParams.weight = 1;
-        WheelView wheel = new WheelView(getContext());
+        WheelView wheel = createWheelView();
         wheel.setViewAdapter(mMonthWheelAdapter);
         wheel.setVisibleItems(WHEEL_DEFAULT_ITEMS);
         wheel.setCyclic(false);
         wheel.setCurrentItem(mCalendar.get(Calendar.MONTH) - getMinMonthOfYear(mCalendar.get(Calendar.YEAR)) + 1);
-        wheel.setCurrentItemListener(this);
         wheel.addChangingListener(new OnWheelChangedListener() {
 
             @Override
@@ -264,13 +306,12 @@ public class DatePickerView extends LinearLayout implements CurrentItemListener
         mDayWheelAdapter.updateViewItem(maxDay, minDay - 1);
         LayoutParams layoutParams = new LayoutParams(0, LayoutParams.WRAP_CONTENT);
         layoutParams.weight = 1;
-        WheelView wheel = new WheelView(getContext());
+        WheelView wheel = createWheelView();
         wheel.setViewAdapter(mDayWheelAdapter);
         wheel.setVisibleItems(WHEEL_DEFAULT_ITEMS);
         wheel.setCyclic(false);
         wheel.setCurrentItem(mCalendar.get(Calendar.DAY_OF_MONTH) - getMinDayOfMonth(mCalendar.get(Calendar.YEAR),
                 mCalendar.get(Calendar.MONTH)));
-        wheel.setCurrentItemListener(this);
         wheel.addChangingListener(new OnWheelChangedListener() {
             @Override
             public void onChanged(WheelView wheel, int oldValue, int newValue) {
@@ -289,10 +330,9 @@ public class DatePickerView extends LinearLayout implements CurrentItemListener
         }
         LayoutParams layoutParams = new LayoutParams(0, LayoutParams.WRAP_CONTENT);
         layoutParams.weight = 1;
-        WheelView wheel = new WheelView(getContext());
+        WheelView wheel = createWheelView();
         wheel.setViewAdapter(mHourAndMinuteWheelAdapter);
         wheel.setVisibleItems(WHEEL_DEFAULT_ITEMS);
-        wheel.setCurrentItemListener(this);
         wheel.addChangingListener(new OnWheelChangedListener() {
             @Override
             public void onChanged(WheelView wheel, int oldValue, int newValue) {
@@ -308,22 +348,14 @@ public class DatePickerView extends LinearLayout implements CurrentItemListener
 
     private void initHour() {
         if (mHourWheelAdapter == null) {
-            String[] hourArray = new String[MAX_HOUR];
-            for (int i = 0; i < MAX_HOUR; i++) {
-                if (i < NUMBER_TEN) {
-                    hourArray[i] = "0" + i;
-                } else {
-                    hourArray[i] = String.valueOf(i);
-                }
-            }
-            mHourWheelAdapter = new CustomizationMaxItemWheelAdapter(getContext(), hourArray, mTextSize, mTextColor);
+            mHourWheelAdapter = new CustomizationMaxItemWheelAdapter(getContext(),
+                    new NumericLabelFormatter(2, null, null), MAX_HOUR, mTextSize, mTextColor);
         }
         LayoutParams layoutParams = new LayoutParams(0, LayoutParams.WRAP_CONTENT);
         layoutParams.weight = 1;
-        WheelView wheel = new WheelView(getContext());
+        WheelView wheel = createWheelView();
         wheel.setViewAdapter(mHourWheelAdapter);
         wheel.setVisibleItems(WHEEL_DEFAULT_ITEMS);
-        wheel.setCurrentItemListener(this);
         wheel.addChangingListener(new OnWheelChangedListener() {
             @Override
             public void onChanged(WheelView wheel, int oldValue, int newValue) {
@@ -345,22 +377,14 @@ public class DatePickerView extends LinearLayout implements CurrentItemListener
 
     private void initMinute() {
         if (mMinuteWheelAdapter == null) {
-            String[] minuteArray = new String[MAX_MINUTE];
-            for (int i = 0; i < MAX_MINUTE; i++) {
-                if (i < NUMBER_TEN) {
-                    minuteArray[i] = "0" + i;
-                } else {
-                    minuteArray[i] = String.valueOf(i);
-                }
-            }
-            mMinuteWheelAdapter = new CustomizationMaxItemWheelAdapter(getContext(), minuteArray, mTextSize, mTextColor);
+            mMinuteWheelAdapter = new CustomizationMaxItemWheelAdapter(getContext(),
+                    new NumericLabelFormatter(2, null, null), MAX_MINUTE, mTextSize, mTextColor);
         }
         LayoutParams layoutParams = new LayoutParams(0, LayoutParams.WRAP_CONTENT);
         layoutParams.weight = 1;
-        WheelView wheel = new WheelView(getContext());
+        WheelView wheel = createWheelView();
         wheel.setViewAdapter(mMinuteWheelAdapter);
         wheel.setVisibleItems(WHEEL_DEFAULT_ITEMS);
-        wheel.setCurrentItemListener(this);
         wheel.addChangingListener(new OnWheelChangedListener() {
             @Override
             public void onChanged(WheelView wheel, int oldValue, int newValue) {
@@ -381,10 +405,9 @@ public class DatePickerView extends LinearLayout implements CurrentItemListener
         }
         LayoutParams layoutParams = new LayoutParams(0, LayoutParams.WRAP_CONTENT);
         layoutParams.weight = 1;
-        WheelView wheel = new WheelView(getContext());
+        WheelView wheel = createWheelView();
         wheel.setViewAdapter(mSecondWheelAdapter);
         wheel.setVisibleItems(WHEEL_DEFAULT_ITEMS);
-        wheel.setCurrentItemListener(this);
         wheel.addChangingListener(new OnWheelChangedListener() {
             @Override
             public void onChanged(WheelView wheel, int oldValue, int newValue) {
@@ -416,7 +439,6 @@ public class DatePickerView extends LinearLayout implements CurrentItemListener
                 monthPosition += mMonthWheelAdapter.getUnShowCount();
             }
             onMonthChanged(monthPosition);
-            monthWheel.invalidateWheel(true); //刷新滚轮
         }
     }
 
@@ -462,7 +484,6 @@ public class DatePickerView extends LinearLayout implements CurrentItemListener
                 dayPosition += mDayWheelAdapter.getUnShowCount();
             }
             onDayChanged(dayPosition);
-            dayWheel.invalidateWheel(true); //刷新滚轮
         }
     }
 
@@ -662,6 +683,12 @@ public class DatePickerView extends LinearLayout implements CurrentItemListener
         mMaxTimeCalendar = null;
         mMinTimeCalender = null;
         mWheelViewMap.clear();
+        if (mViewPool != null && mOwnsViewPool) {
+            mViewPool.clear();
+        }
+        // 外部设置的缓存池可能仍被其他选择器使用,只解除引用
+        mViewPool = null;
+        mOwnsViewPool = false;
     }
 
     @Override
@@ -702,101 +729,15 @@ public class DatePickerView extends LinearLayout implements CurrentItemListener
         mBottomShadow.draw(canvas);
     }
 
-    @Override
-    public void onCurrentItemViewPosition(int position, View currentItem, LinearLayout parent) {
-        drawItemColor(position, parent);
-    }
-
-    @Override
-    public void onCurrentItem(int position) {
-        //do nothing
-    }
-
-    private void drawItemColor(int centerViewPosition, LinearLayout parent) {
-        for (int i = parent.getChildCount() - 1; i >= 0; i--) {
-            View view = parent.getChildAt(i);
-            if (view instanceof TextView) {
-                ((TextView) view).setTextColor(mTextColor);
-                ((TextView) view).setTextSize(mTextSize);
-                if (i == centerViewPosition) {
-                    ((TextView) view).setTextColor(mAxisTextColor);
-                    ((TextView) view).setTextSize(mAxisTextSize);
-                }
-            }
-        }
-    }
-
-    private static final class YearWheelAdapter extends AbstractWheelTextAdapter {
-
-        List<Integer> mYearIntList = new ArrayList<>();
-
-        List<String> mYearStringList = new ArrayList<>();
-
-        private int mStartYear;
-
-        private int mEndYear;
-
-        private float mTextSize;
-
-        private int mTextColor;
-
-        @Override
-        protected float getDefaultTextSize() {
-            return mTextSize;
-        }
-
-        @Override
-        protected int getDefaultTextColor() {
-            return mTextColor;
-        }
+    private static final class YearWheelAdapter extends NumericWheelAdapter {
 
         YearWheelAdapter(Context context, int startYear, int endYear, float textSize, int textColor) {
-            super(context);
-            mTextColor = textColor;
-            mTextSize = textSize;
-            mStartYear = startYear;
-            mEndYear = endYear;
-            for (int i = startYear; i <= endYear; i++) {
-                mYearIntList.add(i);
-                mYearStringList.add(context.getString(R.string.label_year_selection_formatter, i));
-            }
-        }
-
-        YearWheelAdapter(Context context, Integer[] yearArray, float textSize, int textColor) {
-            super(context);
-            mTextColor = textColor;
-            mTextSize = textSize;
-            mYearIntList.clear();
-            if (yearArray != null) {
-                mYearIntList = Arrays.asList(yearArray);
-                mStartYear = yearArray[0];
-                mEndYear = yearArray[yearArray.length - 1];
-                for (Integer year : yearArray) {
-                    mYearStringList.add(context.getString(R.string.label_year_selection_formatter, year));
-                }
-            }
-        }
-
-        @Override
-        protected CharSequence getItemText(int index) {
-            return mYearStringList.get(index);
-        }
-
-        @Override
-        public int getItemsCount() {
-            return mYearIntList.size();
+            super(context, startYear, endYear, 1, NumericLabelFormatter.fromPattern(1,
+                    context.getString(R.string.label_year_selection_formatter)), textColor, textSize);
         }
 
         public int getYearPosition(int year) {
-            int position;
-            if (year < mStartYear) {
-                position = 0;
-            } else if (year > mEndYear) {
-                position = mYearIntList.size() - 1;
-            } else {
-                position = mYearIntList.indexOf(year);
-            }
-            return position;
+            return getItemIndex(year);
         }
 
         /**
@@ -806,43 +747,17 @@ public class DatePickerView extends LinearLayout implements CurrentItemListener
          * @return 年份
          */
         public int getYear(int position) {
-            return mYearIntList.get(position);
+            return (int) getValue(position);
         }
     }
 
-    private static class SecondWheelAdapter extends AbstractWheelTextAdapter {
-
-        private static final int MAX_HOURS = 60;
-
-        Resources mResources;
-        private float mTextSize;
-        private int mTextColor;
-
-        @Override
-        protected float getDefaultTextSize() {
-            return mTextSize;
-        }
+    private static class SecondWheelAdapter extends NumericWheelAdapter {
 
-        @Override
-        protected int getDefaultTextColor() {
-            return mTextColor;
-        }
+        private static final int MAX_SECONDS = 60;
 
         SecondWheelAdapter(Context context, float textSize, int textColor) {
-            super(context);
-            mTextColor = textColor;
-            mTextSize = textSize;
-            mResources = context.getResources();
-        }
-
-        @Override
-        protected CharSequence getItemText(int index) {
-            return mResources.getString(R.string.label_second, index);
-        }
-
-        @Override
-        public int getItemsCount() {
-            return MAX_HOURS;
+            super(context, 0, MAX_SECONDS - 1, 1, NumericLabelFormatter.fromPattern(1,
+                    context.getString(R.string.label_second)), textColor, textSize);
         }
     }
 
@@ -850,6 +765,11 @@ public class DatePickerView extends LinearLayout implements CurrentItemListener
 
         List<String> mItemList;
 
+        /**
+         * 数字item的格式，为空时使用mItemList.
+         */
+        private NumericLabelFormatter mLabelFormatter;
+
         int mMaxItemCount;
         private float mTextSize;
         private int mTextColor;
@@ -867,6 +787,21 @@ public class DatePickerView extends LinearLayout implements CurrentItemListener
             mMaxItemCount = mItemList.size();
         }
 
+        /**
+         * 数字item，文字直接写入复用的字符缓冲区.
+         *
+         * @param labelFormatter 数字格式
+         * @param itemCount      item数量，item的值为0到itemCount - 1
+         */
+        CustomizationMaxItemWheelAdapter(Context context, NumericLabelFormatter labelFormatter,
+                int itemCount, float textSize, int textColor) {
+            super(context);
+            mTextColor = textColor;
+            mTextSize = textSize;
+            mLabelFormatter = labelFormatter;
+            mMaxItemCount = itemCount;
+        }
+
         @Override
         public View getEmptyItem(View convertView, ViewGroup parent) {
             View view = super.getEmptyItem(convertView, parent);
@@ -899,19 +834,50 @@ public class DatePickerView extends LinearLayout implements CurrentItemListener
          * @param unShowCount  数据列表不显示的条数）
          */
         public void updateViewItem(int maxItemCount, int unShowCount) {
+            int oldCount = getItemsCount();
+            int oldUnShowCount = mUnShowCount;
             mMaxItemCount = maxItemCount;
             mUnShowCount = unShowCount;
             if (mMaxItemCount >= unShowCount) {
-                notifyDataChangedEvent();
+                int count = getItemsCount();
+                if (oldUnShowCount != mUnShowCount) {
+                    // 起始数据变化，所有item都需要刷新
+                    notifyDataChangedEvent();
+                } else if (count > oldCount) {
+                    // 只在末尾增加了item，滚轮只刷新受影响的行
+                    notifyItemRangeInserted(oldCount, count - oldCount);
+                } else if (count < oldCount) {
+                    notifyItemRangeRemoved(count, oldCount - count);
+                }
             }
         }
 
 
         @Override
         protected CharSequence getItemText(int index) {
+            if (mLabelFormatter != null) {
+                return mLabelFormatter.toString(index + mUnShowCount);
+            }
             return mItemList.get(index + mUnShowCount);
         }
 
+        @Override
+        protected boolean bindItemText(TextView view, int index) {
+            if (mLabelFormatter != null) {
+                mLabelFormatter.bindText(view, index + mUnShowCount);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public CharSequence getItemLabel(int index) {
+            if (mLabelFormatter != null && index >= 0 && index < getItemsCount()) {
+                return mLabelFormatter.getLabel(index + mUnShowCount);
+            }
+            return super.getItemLabel(index);
+        }
+
         @Override
         protected float getDefaultTextSize() {
             return mTextSize;
@@ -47,6 +47,17 @@ public class ItemsRange {
         mCount = count;
     }
 
+    /**
+     * Sets range bounds, so the range can be reused.
+     *
+     * @param first the number of first item
+     * @param count the count of items
+     */
+    public void set(int first, int count) {
+        mFirst = first;
+        mCount = count;
+    }
+
     /**
      * Gets number of  first item.
      *
@@ -0,0 +1,160 @@
+/*
+ *  Android Wheel Control.
+ *  https://code.google.com/p/android-wheel/
+ *  Copyright 2011 Yuri Kanivets
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.basic.commonview.datePicker;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Process-wide animation driver. Steps every animating {@link WheelScroller}
+ * once per display frame and goes idle when no wheel is animating.
+ * Must be used from the main thread.
+ */
+final class WheelAnimationDriver {
+
+    /**
+     * Frame delay used before Jelly Bean, where Choreographer is not available.
+     */
+    private static final long FALLBACK_FRAME_DELAY = 10;
+
+    private static WheelAnimationDriver sInstance;
+
+    // Animating scrollers
+    private List<WheelScroller> mScrollers = new ArrayList<WheelScroller>();
+
+    // Scrollers stepped by current frame, reused between frames
+    private WheelScroller[] mFrameScrollers = new WheelScroller[0];
+
+    private boolean mFrameScheduled;
+
+    private Handler mHandler;
+    private VsyncFrameCallback mFrameCallback;
+
+    private Runnable mFrameRunnable = new Runnable() {
+        @Override
+        public void run() {
+            doFrame();
+        }
+    };
+
+    /**
+     * Gets the shared driver.
+     *
+     * @return the animation driver
+     */
+    static WheelAnimationDriver getInstance() {
+        if (sInstance == null) {
+            sInstance = new WheelAnimationDriver();
+        }
+        return sInstance;
+    }
+
+    private WheelAnimationDriver() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+            mFrameCallback = new VsyncFrameCallback(this);
+        } else {
+            mHandler = new Handler(Looper.getMainLooper());
+        }
+    }
+
+    /**
+     * Adds scroller to be stepped on next frames.
+     *
+     * @param scroller the animating scroller
+     */
+    void add(WheelScroller scroller) {
+        if (!mScrollers.contains(scroller)) {
+            mScrollers.add(scroller);
+        }
+        scheduleFrame();
+    }
+
+    /**
+     * Removes scroller, it is not stepped anymore.
+     *
+     * @param scroller the scroller
+     */
+    void remove(WheelScroller scroller) {
+        mScrollers.remove(scroller);
+    }
+
+    /**
+     * Steps all animating scrollers once.
+     */
+    private void doFrame() {
+        mFrameScheduled = false;
+        int count = mScrollers.size();
+        if (mFrameScrollers.length < count) {
+            mFrameScrollers = new WheelScroller[count];
+        }
+        // scrollers may start or stop animations while being stepped
+        mScrollers.toArray(mFrameScrollers);
+        for (int i = 0; i < count; i++) {
+            WheelScroller scroller = mFrameScrollers[i];
+            mFrameScrollers[i] = null;
+            scroller.doAnimationFrame();
+        }
+        if (!mScrollers.isEmpty()) {
+            scheduleFrame();
+        }
+    }
+
+    /**
+     * Requests next frame if it is not requested yet.
+     */
+    private void scheduleFrame() {
+        if (mFrameScheduled) {
+            return;
+        }
+        mFrameScheduled = true;
+        if (mFrameCallback != null) {
+            mFrameCallback.postFrame();
+        } else {
+            mHandler.postDelayed(mFrameRunnable, FALLBACK_FRAME_DELAY);
+        }
+    }
+
+    /**
+     * Choreographer frame callback, kept in its own class so it is only loaded
+     * on devices that have Choreographer.
+     */
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+    private static final class VsyncFrameCallback implements Choreographer.FrameCallback {
+        private WheelAnimationDriver mDriver;
+
+        VsyncFrameCallback(WheelAnimationDriver driver) {
+            mDriver = driver;
+        }
+
+        void postFrame() {
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            mDriver.doFrame();
+        }
+    }
+}
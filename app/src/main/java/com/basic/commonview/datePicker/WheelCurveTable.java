@@ -0,0 +1,133 @@
+/*
+ *  Android Wheel Control.
+ *  https://code.google.com/p/android-wheel/
+ *  Copyright 2011 Yuri Kanivets
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.basic.commonview.datePicker;
+
+import android.graphics.Camera;
+import android.graphics.Matrix;
+
+/**
+ * Precomputed transforms of a curved drum wheel. Rows are laid on a drum whose
+ * radius is half the wheel height. For every row slot and every pixel of
+ * scrolling offset within the slot the table keeps the row matrix, rotation
+ * and scale included, and the row alpha. Drawing a row is then a lookup.
+ * The table is rebuilt only when the wheel or item size changes.
+ */
+class WheelCurveTable {
+
+    // Extra slots for rows partially shown at both ends
+    private static final int EDGE_SLOTS = 2;
+
+    private static final int OPAQUE = 255;
+
+    // Table geometry
+    private int mWidth;
+    private int mHeight;
+    private int mItemHeight;
+    private int mVisibleItems;
+    private int mCenterSlot;
+
+    // Entries indexed by slot * item height + offset in slot
+    private Matrix[] mMatrices;
+    private int[] mAlphas;
+
+    /**
+     * Rebuilds table if the geometry changed.
+     *
+     * @param width        the wheel width
+     * @param height       the wheel height
+     * @param itemHeight   the item height
+     * @param visibleItems the count of visible items
+     * @return false if table can not be built for the geometry
+     */
+    public boolean update(int width, int height, int itemHeight, int visibleItems) {
+        if (width <= 0 || height <= 0 || itemHeight <= 0 || visibleItems <= 0) {
+            return false;
+        }
+        if (mMatrices != null && width == mWidth && height == mHeight
+                && itemHeight == mItemHeight && visibleItems == mVisibleItems) {
+            return true;
+        }
+        mWidth = width;
+        mHeight = height;
+        mItemHeight = itemHeight;
+        mVisibleItems = visibleItems;
+        int slots = visibleItems + EDGE_SLOTS;
+        mCenterSlot = slots / 2;
+        mMatrices = new Matrix[slots * itemHeight];
+        mAlphas = new int[slots * itemHeight];
+
+        Camera camera = new Camera();
+        float radius = height / 2f;
+        for (int entry = 0; entry < mMatrices.length; entry++) {
+            int distance = entry - mCenterSlot * itemHeight;
+            // angle of arc as long as the distance, rows beyond the edge are hidden
+            double angle = Math.max(-Math.PI / 2, Math.min(Math.PI / 2, distance / radius));
+            Matrix matrix = new Matrix();
+            camera.save();
+            camera.rotateX((float) -Math.toDegrees(angle));
+            camera.getMatrix(matrix);
+            camera.restore();
+            matrix.preTranslate(-width / 2f, -itemHeight / 2f);
+            matrix.postTranslate(width / 2f, radius + (float) (radius * Math.sin(angle)));
+            mMatrices[entry] = matrix;
+            mAlphas[entry] = (int) (OPAQUE * Math.cos(angle));
+        }
+        return true;
+    }
+
+    /**
+     * Finds table entry of row.
+     *
+     * @param distance the distance of row center from the wheel center
+     * @return the entry or -1 if the row is not shown
+     */
+    public int getEntry(int distance) {
+        int entry = distance + mCenterSlot * mItemHeight;
+        return entry >= 0 && entry < mMatrices.length && mAlphas[entry] > 0 ? entry : -1;
+    }
+
+    /**
+     * Gets matrix mapping row with top at 0 to its place on the drum.
+     *
+     * @param entry the table entry
+     * @return the cached matrix, must not be modified
+     */
+    public Matrix getMatrix(int entry) {
+        return mMatrices[entry];
+    }
+
+    /**
+     * Gets row alpha.
+     *
+     * @param entry the table entry
+     * @return the alpha, 0 to 255
+     */
+    public int getAlpha(int entry) {
+        return mAlphas[entry];
+    }
+
+    /**
+     * Gets count of rows the table covers on each side of the center row.
+     *
+     * @return the count of rows
+     */
+    public int getSideRows() {
+        return mCenterSlot;
+    }
+}
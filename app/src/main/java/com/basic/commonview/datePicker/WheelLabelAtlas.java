@@ -0,0 +1,325 @@
+/*
+ *  Android Wheel Control.
+ *  https://code.google.com/p/android-wheel/
+ *  Copyright 2011 Yuri Kanivets
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.basic.commonview.datePicker;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.PorterDuff;
+import android.graphics.Rect;
+import android.text.TextUtils;
+
+import java.util.LinkedHashMap;
+
+/**
+ * Bitmap atlas of pre-rendered item labels. Each distinct label text is
+ * rasterized once into a slot as wide as the label, drawing an item is then
+ * a single bitmap blit. Slots are packed in rows of item height. When the
+ * atlas is full, the least recently drawn slot wide enough for a new label
+ * is reused. Labels that find no slot are not cached, the caller draws them
+ * as text.
+ */
+class WheelLabelAtlas {
+
+    /**
+     * Default max atlas memory, in bytes.
+     */
+    public static final int DEFAULT_MAX_BYTES = 1024 * 1024;
+
+    /**
+     * Max atlas side, kept below the usual max texture size.
+     */
+    private static final int MAX_SIDE = 2048;
+
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private static final int OPAQUE = 255;
+
+    // Transparent pixels around each label, so filtering does not bleed
+    private static final int GUTTER = 1;
+
+    private int mMaxBytes = DEFAULT_MAX_BYTES;
+
+    private Bitmap mBitmap;
+    private Canvas mCanvas;
+
+    // Atlas geometry, slots of a row are packed from the left
+    private int mSlotHeight;
+    private int mRows;
+    private int mPackLeft;
+    private int mPackRow;
+    private int mStyleGeneration;
+
+    // Incremented each frame, slots drawn in the current frame are not reused
+    private int mFrame;
+
+    // Frame a label was last rendered in
+    private int mWrittenFrame = -1;
+
+    // Label text to slot, in least recently drawn order
+    private LinkedHashMap<Key, Slot> mSlots = new LinkedHashMap<Key, Slot>(16, 0.75f, true);
+
+    // Reused key for lookups, so hits do not allocate
+    private Key mLookupKey = new Key();
+
+    private Rect mDst = new Rect();
+
+    // Paint for translucent labels
+    private Paint mAlphaPaint = new Paint(Paint.FILTER_BITMAP_FLAG);
+
+    /**
+     * Sets max atlas memory. Evicts the atlas.
+     *
+     * @param maxBytes the max bytes
+     */
+    public void setMaxBytes(int maxBytes) {
+        mMaxBytes = maxBytes;
+        evict();
+    }
+
+    /**
+     * Starts a frame. Slots drawn from now on keep their labels until the
+     * next frame, the canvas may refer to the atlas until it is rendered.
+     */
+    public void beginFrame() {
+        mFrame++;
+    }
+
+    /**
+     * Draws label of the specified adapter item from atlas, rendering it
+     * into a slot on first use.
+     *
+     * @param canvas       the canvas for drawing
+     * @param renderer     the text renderer
+     * @param adapterIndex the adapter item index
+     * @param centerX      the horizontal center of the item
+     * @param top          the item top
+     * @param alpha        the alpha, 0 to 255
+     * @return false if atlas has no room for the label and it is not drawn
+     */
+    public boolean draw(Canvas canvas, WheelTextRenderer renderer, int adapterIndex,
+            float centerX, int top, int alpha) {
+        CharSequence text = renderer.getAdapter().getItemLabel(adapterIndex);
+        if (TextUtils.isEmpty(text)) {
+            return true;
+        }
+        if (!prepare(renderer.getItemHeight(), renderer.getStyleGeneration())) {
+            return false;
+        }
+        Slot slot = getSlot(renderer, adapterIndex, text);
+        if (slot == null) {
+            return false;
+        }
+        Rect src = slot.mBounds;
+        int left = Math.round(centerX - src.width() / 2f);
+        mDst.set(left, top, left + src.width(), top + src.height());
+        Paint paint = null;
+        if (alpha != OPAQUE) {
+            mAlphaPaint.setAlpha(alpha);
+            paint = mAlphaPaint;
+        }
+        canvas.drawBitmap(mBitmap, src, mDst, paint);
+        return true;
+    }
+
+    /**
+     * Renders label of the specified adapter item into a slot unless it is
+     * cached, without drawing it.
+     *
+     * @param renderer     the text renderer
+     * @param adapterIndex the adapter item index
+     */
+    public void prefetch(WheelTextRenderer renderer, int adapterIndex) {
+        CharSequence text = renderer.getAdapter().getItemLabel(adapterIndex);
+        if (!TextUtils.isEmpty(text)
+                && prepare(renderer.getItemHeight(), renderer.getStyleGeneration())) {
+            getSlot(renderer, adapterIndex, text);
+        }
+    }
+
+    /**
+     * Tests whether a label was rendered into the atlas in the current frame.
+     * The whole atlas is uploaded again once for such a frame, labels added
+     * in the same frame come with no extra upload.
+     *
+     * @return true if the atlas changed in the current frame
+     */
+    public boolean isWrittenInFrame() {
+        return mBitmap != null && mWrittenFrame == mFrame;
+    }
+
+    /**
+     * Drops atlas bitmap and all cached labels.
+     */
+    public void evict() {
+        // not recycled, the last frame's display list may still refer to it
+        mBitmap = null;
+        mCanvas = null;
+        mSlots.clear();
+        mRows = 0;
+    }
+
+    /**
+     * Allocates atlas for the item height and text style, evicting the old
+     * one when they change.
+     *
+     * @param height          the slot height
+     * @param styleGeneration the text style generation
+     * @return true if the atlas is usable
+     */
+    private boolean prepare(int height, int styleGeneration) {
+        if (mBitmap != null && height == mSlotHeight && styleGeneration == mStyleGeneration) {
+            return true;
+        }
+        evict();
+        if (height <= 0 || height > MAX_SIDE) {
+            return false;
+        }
+        int width = Math.min(MAX_SIDE, mMaxBytes / (height * BYTES_PER_PIXEL));
+        if (width <= 2 * GUTTER) {
+            return false;
+        }
+        mRows = Math.min(MAX_SIDE / height, mMaxBytes / (width * height * BYTES_PER_PIXEL));
+        if (mRows == 0) {
+            return false;
+        }
+        mSlotHeight = height;
+        mStyleGeneration = styleGeneration;
+        mPackLeft = 0;
+        mPackRow = 0;
+        mBitmap = Bitmap.createBitmap(width, mRows * height, Bitmap.Config.ARGB_8888);
+        mCanvas = new Canvas(mBitmap);
+        return true;
+    }
+
+    /**
+     * Gets slot holding label, rendering the label into a slot on a miss.
+     * The slot is kept until the next frame.
+     *
+     * @param renderer     the text renderer
+     * @param adapterIndex the adapter item index
+     * @param text         the label text
+     * @return the slot or null if atlas has no room for the label
+     */
+    private Slot getSlot(WheelTextRenderer renderer, int adapterIndex, CharSequence text) {
+        mLookupKey.set(text);
+        Slot slot = mSlots.get(mLookupKey);
+        mLookupKey.mText = null;
+        if (slot == null) {
+            // text may be a reused buffer, keep an immutable copy
+            Key key = new Key();
+            key.set(text.toString());
+            int width = (int) Math.ceil(renderer.getLabelWidth(text));
+            slot = obtainSlot(width + 2 * GUTTER);
+            if (slot == null) {
+                return null;
+            }
+            slot.mKey = key;
+            mSlots.put(key, slot);
+            mCanvas.save();
+            mCanvas.clipRect(slot.mBounds);
+            mCanvas.drawColor(Color.TRANSPARENT, PorterDuff.Mode.CLEAR);
+            renderer.drawLabel(mCanvas, adapterIndex, slot.mBounds.exactCenterX(),
+                    slot.mBounds.top);
+            mCanvas.restore();
+            mWrittenFrame = mFrame;
+        }
+        slot.mFrame = mFrame;
+        return slot;
+    }
+
+    /**
+     * Gets slot of at least the specified width, packing a new one while the
+     * atlas has room and reusing the least recently drawn one otherwise.
+     *
+     * @param width the slot width
+     * @return the slot, removed from the slot map, or null if there is none
+     */
+    private Slot obtainSlot(int width) {
+        int atlasWidth = mBitmap.getWidth();
+        if (width > atlasWidth) {
+            return null;
+        }
+        if (mPackLeft + width > atlasWidth) {
+            mPackRow++;
+            mPackLeft = 0;
+        }
+        if (mPackRow < mRows) {
+            Slot slot = new Slot();
+            int top = mPackRow * mSlotHeight;
+            slot.mBounds.set(mPackLeft, top, mPackLeft + width, top + mSlotHeight);
+            mPackLeft += width;
+            return slot;
+        }
+        for (Slot slot : mSlots.values()) {
+            if (slot.mFrame == mFrame) {
+                // this and all later slots are drawn in the current frame
+                return null;
+            }
+            if (slot.mBounds.width() >= width) {
+                mSlots.remove(slot.mKey);
+                return slot;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Atlas region holding a label.
+     */
+    private static final class Slot {
+        private final Rect mBounds = new Rect();
+        private Key mKey;
+        private int mFrame;
+    }
+
+    /**
+     * Slot key, the label text.
+     */
+    private static final class Key {
+        private CharSequence mText;
+        private int mHash;
+
+        void set(CharSequence text) {
+            mText = text;
+            int hash = 0;
+            for (int i = 0; i < text.length(); i++) {
+                hash = 31 * hash + text.charAt(i);
+            }
+            mHash = hash;
+        }
+
+        @Override
+        public int hashCode() {
+            return mHash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return mHash == other.mHash && TextUtils.equals(mText, other.mText);
+        }
+    }
+}
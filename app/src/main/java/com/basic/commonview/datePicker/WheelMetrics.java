@@ -0,0 +1,266 @@
+/*
+ *  Android Wheel Control.
+ *  https://code.google.com/p/android-wheel/
+ *  Copyright 2011 Yuri Kanivets
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.basic.commonview.datePicker;
+
+/**
+ * Performance counters of a wheel, see {@link WheelView#setMetricsEnabled(boolean)}.
+ * Counters are collected per frame, a frame ends when the wheel is drawn.
+ * Work done between frames, e.g. measuring, is counted to the next frame.
+ * Must be used from the main thread.
+ */
+public final class WheelMetrics {
+
+    /**
+     * Counters of a frame or of all frames.
+     */
+    public static final class Counters {
+        long mDrawTimeNanos;
+        long mRebuildItemsTimeNanos;
+        long mLayoutWidthTimeNanos;
+        long mBinds;
+        long mEmptyBinds;
+        long mPoolHits;
+        long mPoolMisses;
+        long mFrames;
+        long mFlingFrames;
+        long mDroppedFrames;
+
+        /**
+         * Gets time spent in onDraw.
+         *
+         * @return the time in nanoseconds
+         */
+        public long getDrawTimeNanos() {
+            return mDrawTimeNanos;
+        }
+
+        /**
+         * Gets time spent rebuilding item views.
+         *
+         * @return the time in nanoseconds
+         */
+        public long getRebuildItemsTimeNanos() {
+            return mRebuildItemsTimeNanos;
+        }
+
+        /**
+         * Gets time spent calculating layout width.
+         *
+         * @return the time in nanoseconds
+         */
+        public long getLayoutWidthTimeNanos() {
+            return mLayoutWidthTimeNanos;
+        }
+
+        /**
+         * Gets count of adapter item binds.
+         *
+         * @return the bind count
+         */
+        public long getBinds() {
+            return mBinds;
+        }
+
+        /**
+         * Gets count of adapter empty item binds.
+         *
+         * @return the empty bind count
+         */
+        public long getEmptyBinds() {
+            return mEmptyBinds;
+        }
+
+        /**
+         * Gets count of views taken from the recycle pool.
+         *
+         * @return the hit count
+         */
+        public long getPoolHits() {
+            return mPoolHits;
+        }
+
+        /**
+         * Gets count of pool lookups that found no view.
+         *
+         * @return the miss count
+         */
+        public long getPoolMisses() {
+            return mPoolMisses;
+        }
+
+        /**
+         * Gets count of drawn frames.
+         *
+         * @return the frame count
+         */
+        public long getFrames() {
+            return mFrames;
+        }
+
+        /**
+         * Gets count of frames drawn while flinging.
+         *
+         * @return the fling frame count
+         */
+        public long getFlingFrames() {
+            return mFlingFrames;
+        }
+
+        /**
+         * Gets count of display frames missed between fling frames.
+         *
+         * @return the dropped frame count
+         */
+        public long getDroppedFrames() {
+            return mDroppedFrames;
+        }
+
+        void add(Counters counters) {
+            mDrawTimeNanos += counters.mDrawTimeNanos;
+            mRebuildItemsTimeNanos += counters.mRebuildItemsTimeNanos;
+            mLayoutWidthTimeNanos += counters.mLayoutWidthTimeNanos;
+            mBinds += counters.mBinds;
+            mEmptyBinds += counters.mEmptyBinds;
+            mPoolHits += counters.mPoolHits;
+            mPoolMisses += counters.mPoolMisses;
+            mFrames += counters.mFrames;
+            mFlingFrames += counters.mFlingFrames;
+            mDroppedFrames += counters.mDroppedFrames;
+        }
+
+        void set(Counters counters) {
+            clear();
+            add(counters);
+        }
+
+        void clear() {
+            mDrawTimeNanos = 0;
+            mRebuildItemsTimeNanos = 0;
+            mLayoutWidthTimeNanos = 0;
+            mBinds = 0;
+            mEmptyBinds = 0;
+            mPoolHits = 0;
+            mPoolMisses = 0;
+            mFrames = 0;
+            mFlingFrames = 0;
+            mDroppedFrames = 0;
+        }
+    }
+
+    // Counters of the frame being collected, the last frame and all frames
+    private final Counters mCurrent = new Counters();
+    private final Counters mLastFrame = new Counters();
+    private final Counters mTotal = new Counters();
+
+    // Display frame interval
+    private final long mFrameIntervalNanos;
+
+    // Start of the last fling frame, 0 if the last frame was not a fling frame
+    private long mLastFlingFrameNanos;
+
+    /**
+     * Constructor.
+     *
+     * @param frameIntervalNanos the display frame interval
+     */
+    WheelMetrics(long frameIntervalNanos) {
+        mFrameIntervalNanos = frameIntervalNanos;
+    }
+
+    /**
+     * Gets counters of the last drawn frame.
+     *
+     * @return the counters, updated in place after each frame
+     */
+    public Counters getLastFrame() {
+        return mLastFrame;
+    }
+
+    /**
+     * Gets counters of all frames since metrics were enabled or reset.
+     *
+     * @return the counters, updated in place after each frame
+     */
+    public Counters getTotal() {
+        return mTotal;
+    }
+
+    /**
+     * Resets all counters.
+     */
+    public void reset() {
+        mCurrent.clear();
+        mLastFrame.clear();
+        mTotal.clear();
+        mLastFlingFrameNanos = 0;
+    }
+
+    void addRebuildItemsTime(long nanos) {
+        mCurrent.mRebuildItemsTimeNanos += nanos;
+    }
+
+    void addLayoutWidthTime(long nanos) {
+        mCurrent.mLayoutWidthTimeNanos += nanos;
+    }
+
+    void onBind(boolean empty) {
+        if (empty) {
+            mCurrent.mEmptyBinds++;
+        } else {
+            mCurrent.mBinds++;
+        }
+    }
+
+    void onPoolLookup(boolean hit) {
+        if (hit) {
+            mCurrent.mPoolHits++;
+        } else {
+            mCurrent.mPoolMisses++;
+        }
+    }
+
+    /**
+     * Ends frame.
+     *
+     * @param startNanos the onDraw start time
+     * @param endNanos   the onDraw end time
+     * @param flinging   true if the wheel is flinging
+     */
+    void onFrame(long startNanos, long endNanos, boolean flinging) {
+        mCurrent.mDrawTimeNanos += endNanos - startNanos;
+        mCurrent.mFrames++;
+        if (flinging) {
+            mCurrent.mFlingFrames++;
+            if (mLastFlingFrameNanos != 0 && mFrameIntervalNanos > 0) {
+                // round to whole frames, so small vsync jitter is not a drop
+                long frames = (startNanos - mLastFlingFrameNanos + mFrameIntervalNanos / 2)
+                        / mFrameIntervalNanos;
+                if (frames > 1) {
+                    mCurrent.mDroppedFrames += frames - 1;
+                }
+            }
+            mLastFlingFrameNanos = startNanos;
+        } else {
+            mLastFlingFrameNanos = 0;
+        }
+        mLastFrame.set(mCurrent);
+        mTotal.add(mCurrent);
+        mCurrent.clear();
+    }
+}
@@ -21,22 +21,35 @@ package com.basic.commonview.datePicker;
 import android.view.View;
 import android.widget.LinearLayout;
 
-import java.util.LinkedList;
-import java.util.List;
+import com.basic.commonview.R;
 
 /**
  * Recycle stores mWheel mItems to reuse.
+ * Recycled views go to a {@link WheelViewPool}, owned by the wheel or shared.
  */
 public class WheelRecycle {
+    /**
+     * View type of empty items.
+     */
+    public static final int VIEW_TYPE_EMPTY = WheelViewPool.VIEW_TYPE_EMPTY;
+
+    /**
+     * View type of views not marked by {@link #setViewType(View, int)}.
+     */
+    public static final int VIEW_TYPE_UNKNOWN = -2;
+
     // Cached mItems
-    private List<View> mItems;
+    private WheelViewPool mPool = new WheelViewPool();
 
-    // Cached empty mItems
-    private List<View> mEmptyItems;
+    // Whether the pool is shared with other wheels
+    private boolean mPoolShared;
 
     // Wheel view
     private WheelView mWheel;
 
+    // Metrics of the wheel, null when disabled
+    private WheelMetrics mMetrics;
+
     /**
      * Constructor.
      *
@@ -46,6 +59,34 @@ public class WheelRecycle {
         mWheel = wheel;
     }
 
+    /**
+     * Gets the pool recycled views are put to.
+     *
+     * @return the view pool
+     */
+    public WheelViewPool getViewPool() {
+        return mPool;
+    }
+
+    /**
+     * Sets shared view pool.
+     *
+     * @param pool the shared pool or null to use a private one
+     */
+    public void setViewPool(WheelViewPool pool) {
+        mPoolShared = pool != null;
+        mPool = pool != null ? pool : new WheelViewPool();
+    }
+
+    /**
+     * Tests if the pool is shared with other wheels.
+     *
+     * @return true if the pool is shared
+     */
+    public boolean isPoolShared() {
+        return mPoolShared;
+    }
+
     /**
      * Recycles mItems from specified layout.
      * There are saved only mItems not included to specified range.
@@ -74,12 +115,46 @@ public class WheelRecycle {
     }
 
     /**
-     * Gets item view.
+     * Marks view with its view type, so it goes back to the right pool.
      *
+     * @param view     the item view, may be null
+     * @param viewType the view type or {@link #VIEW_TYPE_EMPTY}
+     */
+    public void setViewType(View view, int viewType) {
+        if (view != null) {
+            view.setTag(R.id.wheel_item_view_type, viewType);
+        }
+    }
+
+    /**
+     * Gets view type the view was marked with.
+     *
+     * @param view the item view
+     * @return the view type, or {@link #VIEW_TYPE_UNKNOWN} if it is not marked
+     */
+    public int getViewType(View view) {
+        Object tag = view.getTag(R.id.wheel_item_view_type);
+        return tag instanceof Integer ? (Integer) tag : VIEW_TYPE_UNKNOWN;
+    }
+
+    /**
+     * Adds single view removed from a wheel to cache.
+     *
+     * @param view  the view to be cached
+     * @param index the index of view
+     */
+    public void recycle(View view, int index) {
+        recycleView(view, index);
+    }
+
+    /**
+     * Gets item view of the specified type.
+     *
+     * @param viewType the view type
      * @return the cached view
      */
-    public View getItem() {
-        return getCachedView(mItems);
+    public View getItem(int viewType) {
+        return countLookup(mPool.get(viewType));
     }
 
     /**
@@ -88,70 +163,53 @@ public class WheelRecycle {
      * @return the cached empty view
      */
     public View getEmptyItem() {
-        return getCachedView(mEmptyItems);
+        return countLookup(mPool.get(VIEW_TYPE_EMPTY));
     }
 
     /**
-     * Clears all views.
+     * Sets metrics to count pool hits and misses to.
+     *
+     * @param metrics the metrics, null to stop counting
      */
-    public void clearAll() {
-        if (mItems != null) {
-            mItems.clear();
-        }
-        if (mEmptyItems != null) {
-            mEmptyItems.clear();
-        }
+    public void setMetrics(WheelMetrics metrics) {
+        mMetrics = metrics;
     }
 
     /**
-     * Adds view to specified cache. Creates a cache list if it is null.
+     * Counts pool lookup if metrics are enabled.
      *
-     * @param view  the view to be cached
-     * @param cache the cache list
-     * @return the cache list
+     * @param view the view found in pool, may be null
+     * @return the view
      */
-    private List<View> addView(View view, List<View> cache) {
-        if (cache == null) {
-            cache = new LinkedList<View>();
+    private View countLookup(View view) {
+        if (mMetrics != null) {
+            mMetrics.onPoolLookup(view != null);
         }
-
-        cache.add(view);
-        return cache;
+        return view;
     }
 
     /**
-     * Adds view to cache. Determines view type (item view or empty one) by index.
-     *
-     * @param view  the view to be cached
-     * @param index the index of view
+     * Clears all views. A shared pool is kept, other wheels may still use it.
      */
-    private void recycleView(View view, int index) {
-        int count = mWheel.getViewAdapter().getItemsCount();
-
-        if ((index < 0 || index >= count) && !mWheel.isCyclic()) {
-            // empty view
-            mEmptyItems = addView(view, mEmptyItems);
-        } else {
-            while (index < 0) {
-                index = count + index;
-            }
-            mItems = addView(view, mItems);
+    public void clearAll() {
+        if (!mPoolShared) {
+            mPool.clear();
         }
     }
 
     /**
-     * Gets view from specified cache.
+     * Adds view to cache. Determines view type by the mark set in
+     * {@link #setViewType(View, int)} or by index for unmarked views.
      *
-     * @param cache the cache
-     * @return the first view from cache.
-     */
-    private View getCachedView(List<View> cache) {
-        if (cache != null && cache.size() > 0) {
-            View view = cache.get(0);
-            cache.remove(0);
-            return view;
+     * @param view  the view to be cached
+     * @param index the index of view
+     */
+    private void recycleView(View view, int index) {
+        int viewType = getViewType(view);
+        if (viewType == VIEW_TYPE_UNKNOWN) {
+            int count = mWheel.getViewAdapter().getItemsCount();
+            viewType = (index < 0 || index >= count) && !mWheel.isCyclic() ? VIEW_TYPE_EMPTY : 0;
         }
-        return null;
+        mPool.put(view, viewType);
     }
-
 }
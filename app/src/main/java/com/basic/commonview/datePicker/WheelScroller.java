@@ -19,8 +19,6 @@
 package com.basic.commonview.datePicker;
 
 import android.content.Context;
-import android.os.Handler;
-import android.os.Message;
 import android.view.GestureDetector;
 import android.view.GestureDetector.SimpleOnGestureListener;
 import android.view.MotionEvent;
@@ -56,6 +54,16 @@ public class WheelScroller {
          * Justifying callback called to justify a view when scrolling is ended.
          */
         void onJustify();
+
+        /**
+         * Adjusting callback called when a fling starts, so that the fling
+         * ends exactly on an item.
+         *
+         * @param distance the fling distance predicted from velocity and deceleration,
+         *                 in the units passed to {@link #onScroll(int)}
+         * @return the distance the fling should travel
+         */
+        int adjustFlingDistance(int distance);
     }
 
     /**
@@ -80,6 +88,11 @@ public class WheelScroller {
     private int mLastScrollY;
     private float mLastTouchedY;
     private boolean misScrollingPerformed;
+    private boolean mIsFlinging;
+
+    // Animation
+    private WheelAnimationDriver mAnimationDriver = WheelAnimationDriver.getInstance();
+    private int mAnimation = ANIMATION_NONE;
 
     /**
      * Constructor.
@@ -114,10 +127,11 @@ public class WheelScroller {
      * @param time     the scrolling duration
      */
     public void scroll(int distance, int time) {
+        mIsFlinging = false;
         mScroller.forceFinished(true);
         mLastScrollY = 0;
         mScroller.startScroll(0, 0, 0, distance, time != 0 ? time : SCROLLING_DURATION);
-        setNextMessage(MESSAGE_SCROLL);
+        startAnimation(ANIMATION_SCROLL);
         startScrolling();
     }
 
@@ -128,6 +142,16 @@ public class WheelScroller {
         mScroller.forceFinished(true);
     }
 
+    /**
+     * Tests if a fling is running. Item content does not change during a
+     * fling, only the scrolling offset does.
+     *
+     * @return true while flinging, before justifying starts
+     */
+    public boolean isFlinging() {
+        return mIsFlinging;
+    }
+
     /**
      * Handles Touch event.
      *
@@ -138,8 +162,9 @@ public class WheelScroller {
         switch (event.getAction()) {
             case MotionEvent.ACTION_DOWN:
                 mLastTouchedY = event.getY();
+                mIsFlinging = false;
                 mScroller.forceFinished(true);
-                clearMessages();
+                stopAnimation();
                 break;
 
             case MotionEvent.ACTION_MOVE:
@@ -175,65 +200,80 @@ public class WheelScroller {
             final int maxY = 0x7FFFFFFF;
             final int minY = -maxY;
             mScroller.fling(0, mLastScrollY, 0, (int) -velocityY, 0, 0, minY, maxY);
-            setNextMessage(MESSAGE_SCROLL);
+            // onScroll() gets the opposite of the scroller delta
+            int finalY = -mListener.adjustFlingDistance(-mScroller.getFinalY());
+            if (finalY != mScroller.getFinalY()) {
+                // the fling curve is scaled to land on the adjusted distance
+                mScroller.setFinalY(finalY);
+            }
+            startAnimation(ANIMATION_SCROLL);
+            mIsFlinging = true;
             return true;
         }
     };
 
-    // Messages
-    private static final int MESSAGE_SCROLL = 0;
-    private static final int MESSAGE_JUSTIFY = 1;
+    // Animations
+    private static final int ANIMATION_NONE = 0;
+    private static final int ANIMATION_SCROLL = 1;
+    private static final int ANIMATION_JUSTIFY = 2;
 
     /**
-     * Set next message to queue. Clears queue before.
+     * Starts animation stepped by the shared animation driver once per frame.
      *
-     * @param message the message to set
+     * @param animation the animation to start
      */
-    private void setNextMessage(int message) {
-        clearMessages();
-        mAnimationHandler.sendEmptyMessage(message);
+    private void startAnimation(int animation) {
+        mAnimation = animation;
+        mAnimationDriver.add(this);
     }
 
     /**
-     * Clears messages from queue.
+     * Stops current animation.
      */
-    private void clearMessages() {
-        mAnimationHandler.removeMessages(MESSAGE_SCROLL);
-        mAnimationHandler.removeMessages(MESSAGE_JUSTIFY);
+    private void stopAnimation() {
+        mAnimation = ANIMATION_NONE;
+        mAnimationDriver.remove(this);
     }
 
-    // animation handler
-    private Handler mAnimationHandler = new Handler() {
-        public void handleMessage(Message msg) {
-            mScroller.computeScrollOffset();
-            int currY = mScroller.getCurrY();
-            int delta = mLastScrollY - currY;
-            mLastScrollY = currY;
-            if (delta != 0) {
-                mListener.onScroll(delta);
-            }
+    /**
+     * Computes one animation frame. Called by {@link WheelAnimationDriver}.
+     */
+    void doAnimationFrame() {
+        int animation = mAnimation;
+        if (animation == ANIMATION_NONE) {
+            mAnimationDriver.remove(this);
+            return;
+        }
+        mScroller.computeScrollOffset();
+        int currY = mScroller.getCurrY();
+        int delta = mLastScrollY - currY;
+        mLastScrollY = currY;
+        if (delta != 0) {
+            mListener.onScroll(delta);
+        }
 
-            // scrolling is not finished when it comes to final Y.
-            // so, finish it manually.
-            if (Math.abs(currY - mScroller.getFinalY()) < MIN_DELTA_FOR_SCROLLING) {
-                mScroller.forceFinished(true);
-            }
-            if (!mScroller.isFinished()) {
-                mAnimationHandler.sendEmptyMessage(msg.what);
-            } else if (msg.what == MESSAGE_SCROLL) {
+        // scrolling is not finished when it comes to final Y.
+        // so, finish it manually.
+        if (Math.abs(currY - mScroller.getFinalY()) < MIN_DELTA_FOR_SCROLLING) {
+            mScroller.forceFinished(true);
+        }
+        if (mScroller.isFinished() && mAnimation == animation) {
+            if (animation == ANIMATION_SCROLL) {
                 justify();
             } else {
+                stopAnimation();
                 finishScrolling();
             }
         }
-    };
+    }
 
     /**
      * Justifies wheel.
      */
     private void justify() {
+        mIsFlinging = false;
         mListener.onJustify();
-        setNextMessage(MESSAGE_JUSTIFY);
+        startAnimation(ANIMATION_JUSTIFY);
     }
 
     /**
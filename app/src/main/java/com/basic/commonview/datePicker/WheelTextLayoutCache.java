@@ -0,0 +1,233 @@
+/*
+ *  Android Wheel Control.
+ *  https://code.google.com/p/android-wheel/
+ *  Copyright 2011 Yuri Kanivets
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.basic.commonview.datePicker;
+
+import android.graphics.Paint;
+import android.graphics.Typeface;
+import android.os.Handler;
+import android.os.Looper;
+import android.text.BoringLayout;
+import android.text.Layout;
+import android.text.StaticLayout;
+import android.text.TextPaint;
+import android.text.TextUtils;
+import android.util.LruCache;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Process-wide LRU cache of measured single line text layouts, keyed by text,
+ * text size, typeface and color. Wheels show the same few labels again and
+ * again, so each label is measured and laid out once per process.
+ * Must be used from the main thread.
+ */
+public final class WheelTextLayoutCache {
+
+    /**
+     * Default count of cached layouts.
+     */
+    private static final int DEFAULT_MAX_LAYOUTS = 512;
+
+    private static WheelTextLayoutCache sInstance;
+
+    private LruCache<Key, Layout> mLayouts;
+
+    // Reused key for lookups, so hits do not allocate
+    private Key mLookupKey = new Key();
+
+    // Reused metrics for boring text check
+    private BoringLayout.Metrics mBoringMetrics = new BoringLayout.Metrics();
+
+    private Handler mMainHandler = new Handler(Looper.getMainLooper());
+
+    /**
+     * Gets the shared cache.
+     *
+     * @return the layout cache
+     */
+    public static WheelTextLayoutCache getInstance() {
+        if (sInstance == null) {
+            sInstance = new WheelTextLayoutCache(DEFAULT_MAX_LAYOUTS);
+        }
+        return sInstance;
+    }
+
+    private WheelTextLayoutCache(int maxLayouts) {
+        mLayouts = new LruCache<Key, Layout>(maxLayouts);
+    }
+
+    /**
+     * Gets layout of text drawn with the specified paint, creating it on a miss.
+     * The layout owns a copy of the paint, later paint changes do not affect it.
+     *
+     * @param text  the text
+     * @param paint the text paint
+     * @return the single line layout, its top is the top of the text
+     */
+    public Layout getLayout(CharSequence text, TextPaint paint) {
+        mLookupKey.set(text, paint);
+        Layout layout = mLayouts.get(mLookupKey);
+        if (layout == null) {
+            // text may be a reused buffer, keep an immutable copy
+            String label = text.toString();
+            layout = createLayout(label, createLayoutPaint(paint), mBoringMetrics);
+            Key key = new Key();
+            key.set(label, paint);
+            mLayouts.put(key, layout);
+        }
+        mLookupKey.mText = null;
+        return layout;
+    }
+
+    /**
+     * Tests whether layout of text drawn with the paint is cached.
+     *
+     * @param text  the text
+     * @param paint the text paint
+     * @return true if the layout is cached
+     */
+    public boolean contains(CharSequence text, TextPaint paint) {
+        mLookupKey.set(text, paint);
+        boolean cached = mLayouts.get(mLookupKey) != null;
+        mLookupKey.mText = null;
+        return cached;
+    }
+
+    /**
+     * Lays out texts on the executor and adds them to cache on the main
+     * thread. {@link #getLayout(CharSequence, TextPaint)} still lays out a
+     * text itself if it is asked for before the result arrives.
+     *
+     * @param texts    the texts, they must not change later
+     * @param paint    the text paint, it is copied
+     * @param executor the background executor
+     */
+    public void precompute(final String[] texts, TextPaint paint, Executor executor) {
+        final TextPaint layoutPaint = createLayoutPaint(paint);
+        final Key[] keys = new Key[texts.length];
+        for (int i = 0; i < texts.length; i++) {
+            keys[i] = new Key();
+            keys[i].set(texts[i], paint);
+        }
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                BoringLayout.Metrics boringMetrics = new BoringLayout.Metrics();
+                final Layout[] layouts = new Layout[texts.length];
+                for (int i = 0; i < texts.length; i++) {
+                    layouts[i] = createLayout(texts[i], layoutPaint, boringMetrics);
+                }
+                mMainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        for (int i = 0; i < keys.length; i++) {
+                            if (mLayouts.get(keys[i]) == null) {
+                                mLayouts.put(keys[i], layouts[i]);
+                            }
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Removes all cached layouts.
+     */
+    public void clear() {
+        mLayouts.evictAll();
+    }
+
+    /**
+     * Copies paint for a layout, layouts are positioned by their left.
+     *
+     * @param paint the text paint
+     * @return the paint owned by the layout
+     */
+    private static TextPaint createLayoutPaint(TextPaint paint) {
+        TextPaint layoutPaint = new TextPaint(paint);
+        layoutPaint.setTextAlign(Paint.Align.LEFT);
+        return layoutPaint;
+    }
+
+    /**
+     * Creates single line layout. May be called on any thread.
+     *
+     * @param text          the text
+     * @param paint         the paint owned by the layout
+     * @param boringMetrics the metrics to reuse for the boring text check
+     * @return the layout
+     */
+    private static Layout createLayout(CharSequence text, TextPaint paint,
+            BoringLayout.Metrics boringMetrics) {
+        BoringLayout.Metrics boring = BoringLayout.isBoring(text, paint, boringMetrics);
+        int width = (int) Math.ceil(Layout.getDesiredWidth(text, paint));
+        if (boring != null) {
+            return BoringLayout.make(text, paint, Math.max(width, boring.width),
+                    Layout.Alignment.ALIGN_NORMAL, 1f, 0f, boring, true);
+        }
+        return new StaticLayout(text, paint, width, Layout.Alignment.ALIGN_NORMAL, 1f, 0f, true);
+    }
+
+    /**
+     * Cache key.
+     */
+    private static final class Key {
+        private CharSequence mText;
+        private float mTextSize;
+        private Typeface mTypeface;
+        private int mColor;
+        private int mHash;
+
+        void set(CharSequence text, TextPaint paint) {
+            mText = text;
+            mTextSize = paint.getTextSize();
+            mTypeface = paint.getTypeface();
+            mColor = paint.getColor();
+
+            int hash = 0;
+            for (int i = 0; i < text.length(); i++) {
+                hash = 31 * hash + text.charAt(i);
+            }
+            hash = 31 * hash + Float.floatToIntBits(mTextSize);
+            hash = 31 * hash + (mTypeface != null ? mTypeface.getStyle() : 0);
+            mHash = 31 * hash + mColor;
+        }
+
+        @Override
+        public int hashCode() {
+            return mHash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return mHash == other.mHash && mColor == other.mColor
+                    && mTextSize == other.mTextSize
+                    && (mTypeface == null ? other.mTypeface == null : mTypeface.equals(other.mTypeface))
+                    && TextUtils.equals(mText, other.mText);
+        }
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ *  Android Wheel Control.
+ *  https://code.google.com/p/android-wheel/
+ *  Copyright 2011 Yuri Kanivets
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.basic.commonview.datePicker;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.text.Layout;
+import android.text.TextPaint;
+import android.text.TextUtils;
+
+import com.basic.commonview.datePicker.adapter.WheelTextAdapter;
+
+/**
+ * Paints text wheel items straight onto the canvas, without item views.
+ */
+class WheelTextRenderer {
+    private static final int OPAQUE = 255;
+
+    // Shared paint for all items
+    private TextPaint mPaint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+
+    // Cached font metrics
+    private Paint.FontMetricsInt mFontMetrics = new Paint.FontMetricsInt();
+
+    // Text adapter
+    private WheelTextAdapter mAdapter;
+
+    // Item height
+    private int mItemHeight;
+
+    // Item top and bottom padding
+    private int mPadding;
+
+    // Incremented each time the text style is re-read
+    private int mStyleGeneration;
+
+    // Shared layouts of item labels
+    private WheelTextLayoutCache mLayoutCache = WheelTextLayoutCache.getInstance();
+
+    // Paint of the center row, used when center style is set
+    private TextPaint mCenterPaint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+    private boolean mCenterStyleEnabled;
+    private int mCenterTextColor;
+    private float mCenterTextSize;
+
+    /**
+     * Sets text adapter and applies its text style.
+     *
+     * @param adapter the text adapter, may be null
+     */
+    public void setAdapter(WheelTextAdapter adapter) {
+        mAdapter = adapter;
+        updateStyle();
+    }
+
+    /**
+     * Re-reads the text style from adapter.
+     */
+    public void updateStyle() {
+        mStyleGeneration++;
+        if (mAdapter == null) {
+            mItemHeight = 0;
+            return;
+        }
+        mAdapter.configureTextPaint(mPaint);
+        if (mCenterStyleEnabled) {
+            mCenterPaint.set(mPaint);
+            mCenterPaint.setColor(mCenterTextColor);
+            mCenterPaint.setTextSize(mCenterTextSize);
+        }
+        mPaint.getFontMetricsInt(mFontMetrics);
+        mPadding = mAdapter.getItemVerticalPadding();
+        mItemHeight = mFontMetrics.bottom - mFontMetrics.top + 2 * mPadding;
+    }
+
+    /**
+     * Sets text style of the center row, it differs from the adapter style in
+     * color and size.
+     *
+     * @param enabled  false to draw the center row in the adapter style
+     * @param color    the text color
+     * @param textSize the text size in pixels
+     */
+    public void setCenterStyle(boolean enabled, int color, float textSize) {
+        mCenterStyleEnabled = enabled;
+        mCenterTextColor = color;
+        mCenterTextSize = textSize;
+        updateStyle();
+    }
+
+    /**
+     * Tests if center row has its own style.
+     *
+     * @return true if center style is set
+     */
+    public boolean isCenterStyleEnabled() {
+        return mCenterStyleEnabled;
+    }
+
+    /**
+     * Draws label of adapter item in the center style, vertically centered
+     * in the item with the specified top.
+     *
+     * @param canvas       the canvas for drawing
+     * @param adapterIndex the adapter item index
+     * @param centerX      the horizontal center of the item
+     * @param top          the item top
+     */
+    public void drawCenterLabel(Canvas canvas, int adapterIndex, float centerX, float top) {
+        CharSequence text = mAdapter.getItemLabel(adapterIndex);
+        if (!TextUtils.isEmpty(text)) {
+            Layout layout = mLayoutCache.getLayout(text, mCenterPaint);
+            canvas.save();
+            canvas.translate(centerX - layout.getLineWidth(0) / 2,
+                    top + (mItemHeight - layout.getHeight()) / 2f);
+            layout.draw(canvas);
+            canvas.restore();
+        }
+    }
+
+    /**
+     * Gets text style generation, it changes whenever the style is re-read.
+     *
+     * @return the style generation
+     */
+    public int getStyleGeneration() {
+        return mStyleGeneration;
+    }
+
+    /**
+     * Gets text adapter.
+     *
+     * @return the text adapter
+     */
+    public WheelTextAdapter getAdapter() {
+        return mAdapter;
+    }
+
+    /**
+     * Gets the paint used to draw items.
+     *
+     * @return the text paint
+     */
+    public TextPaint getPaint() {
+        return mPaint;
+    }
+
+    /**
+     * Gets the paint used to draw the center row in the center style.
+     *
+     * @return the center text paint
+     */
+    public TextPaint getCenterPaint() {
+        return mCenterPaint;
+    }
+
+    /**
+     * Returns height of an item.
+     *
+     * @return the item height
+     */
+    public int getItemHeight() {
+        return mItemHeight;
+    }
+
+    /**
+     * Measures the widest label among specified items.
+     *
+     * @param first the first item index
+     * @param last  the last item index
+     * @param count the adapter items count
+     * @param cyclic the cyclic flag of the wheel
+     * @return the width of the widest label
+     */
+    public int measureWidth(int first, int last, int count, boolean cyclic) {
+        float width = 0;
+        for (int i = first; i <= last; i++) {
+            CharSequence text = getLabel(i, count, cyclic);
+            if (!TextUtils.isEmpty(text)) {
+                width = Math.max(width, mLayoutCache.getLayout(text, mPaint).getLineWidth(0));
+            }
+        }
+        return (int) Math.ceil(width);
+    }
+
+    /**
+     * Measures label text in the adapter style.
+     *
+     * @param text the label text
+     * @return the label width
+     */
+    public float getLabelWidth(CharSequence text) {
+        return mLayoutCache.getLayout(text, mPaint).getLineWidth(0);
+    }
+
+    /**
+     * Draws label of adapter item with the specified top.
+     *
+     * @param canvas       the canvas for drawing
+     * @param adapterIndex the adapter item index
+     * @param centerX      the horizontal center of the item
+     * @param top          the item top
+     */
+    public void drawLabel(Canvas canvas, int adapterIndex, float centerX, float top) {
+        drawLabel(canvas, adapterIndex, centerX, top, OPAQUE);
+    }
+
+    /**
+     * Draws label of adapter item with the specified top and alpha.
+     *
+     * @param canvas       the canvas for drawing
+     * @param adapterIndex the adapter item index
+     * @param centerX      the horizontal center of the item
+     * @param top          the item top
+     * @param alpha        the alpha, 0 to 255
+     */
+    public void drawLabel(Canvas canvas, int adapterIndex, float centerX, float top, int alpha) {
+        CharSequence text = mAdapter.getItemLabel(adapterIndex);
+        if (!TextUtils.isEmpty(text)) {
+            Layout layout = mLayoutCache.getLayout(text, mPaint);
+            canvas.save();
+            canvas.translate(centerX - layout.getLineWidth(0) / 2, top + mPadding);
+            if (alpha != OPAQUE) {
+                // the cached layout owns its paint, restore it for other users
+                TextPaint paint = layout.getPaint();
+                int oldAlpha = paint.getAlpha();
+                paint.setAlpha(oldAlpha * alpha / OPAQUE);
+                layout.draw(canvas);
+                paint.setAlpha(oldAlpha);
+            } else {
+                layout.draw(canvas);
+            }
+            canvas.restore();
+        }
+    }
+
+    /**
+     * Maps wheel item index to adapter index.
+     *
+     * @param index  the item index
+     * @param count  the adapter items count
+     * @param cyclic the cyclic flag of the wheel
+     * @return the adapter index or -1 for empty items
+     */
+    public int getAdapterIndex(int index, int count, boolean cyclic) {
+        if (mAdapter == null || count == 0) {
+            return -1;
+        }
+        if (index < 0 || index >= count) {
+            if (!cyclic) {
+                return -1;
+            }
+            index = WheelView.floorMod(index, count);
+        }
+        return index;
+    }
+
+    /**
+     * Gets label for item. Empty items have no label.
+     *
+     * @param index  the item index
+     * @param count  the adapter items count
+     * @param cyclic the cyclic flag of the wheel
+     * @return the label or null for empty items
+     */
+    private CharSequence getLabel(int index, int count, boolean cyclic) {
+        int adapterIndex = getAdapterIndex(index, count, cyclic);
+        return adapterIndex >= 0 ? mAdapter.getItemLabel(adapterIndex) : null;
+    }
+}
@@ -18,25 +18,42 @@
 
 package com.basic.commonview.datePicker;
 
+        import android.content.ComponentCallbacks2;
         import android.content.Context;
-        import android.database.DataSetObserver;
+        import android.content.res.Configuration;
+        import android.graphics.Bitmap;
         import android.graphics.Canvas;
+        import android.graphics.Color;
         import android.graphics.drawable.Drawable;
+        import android.os.AsyncTask;
+        import android.os.Handler;
+        import android.os.Looper;
+        import android.text.TextPaint;
+        import android.text.TextUtils;
         import android.util.AttributeSet;
+        import android.util.TypedValue;
         import android.view.MotionEvent;
         import android.view.View;
+        import android.view.ViewGroup;
         import android.view.ViewGroup.LayoutParams;
+        import android.view.WindowManager;
         import android.view.animation.Interpolator;
         import android.widget.LinearLayout;
 
         import com.basic.commonview.R;
+        import com.basic.commonview.datePicker.adapter.AbstractWheelTextAdapter;
+        import com.basic.commonview.datePicker.adapter.WheelDataObserver;
+        import com.basic.commonview.datePicker.adapter.WheelTextAdapter;
         import com.basic.commonview.datePicker.adapter.WheelViewAdapter;
+        import com.basic.commonview.datePicker.adapter.WheelViewTypeAdapter;
         import com.basic.commonview.datePicker.listener.OnWheelChangedListener;
         import com.basic.commonview.datePicker.listener.OnWheelClickedListener;
         import com.basic.commonview.datePicker.listener.OnWheelScrollListener;
 
-        import java.util.LinkedList;
+        import java.util.ArrayList;
         import java.util.List;
+        import java.util.concurrent.Executor;
+        import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -67,6 +84,10 @@ public class WheelView extends View {
     // Wheel Values
     private int mCurrentItem = 0;
 
+    // Completed turns of a cyclic wheel, the logical position is
+    // mCycles * items count + mCurrentItem
+    private long mCycles;
+
     // Count of visible items
     private int mVisibleItems = DEF_VISIBLE_ITEMS;
 
@@ -90,16 +111,80 @@ public class WheelView extends View {
     // The number of first item in layout
     private int mFirstItem;
 
+    // Reused item ranges, so drawing and scrolling do not allocate
+    private ItemsRange mItemsRange = new ItemsRange();
+    private final ItemsRange mEmptyRange = new ItemsRange();
+
     // View adapter
     private WheelViewAdapter mViewAdapter;
 
     // Recycle
     private WheelRecycle mRecycle = new WheelRecycle(this);
 
+    // Text drawing
+    private boolean mDrawTextDirectly;
+    private WheelTextRenderer mTextRenderer = new WheelTextRenderer();
+
+    // Label atlas used in text drawing mode
+    private WheelLabelAtlas mLabelAtlas;
+    private boolean mAtlasCallbacksRegistered;
+
+    // Fling strip snapshot used in text drawing mode
+    private static final int STRIP_MARGIN_ITEMS = 3;
+    private boolean mFlingSnapshotEnabled;
+    private Bitmap mStripBitmap;
+    private Canvas mStripCanvas;
+    private boolean mStripValid;
+    private int mStripItemShift;
+
+    // Curved drum drawing used in text drawing mode
+    private static final int OPAQUE = 255;
+    private boolean mCurved;
+    private WheelCurveTable mCurveTable;
+
+    // Measurement cache. Item sizes are measured again only when adapter
+    // generation or text style generation changes.
+    private int mAdapterGeneration;
+    private int mMeasuredAdapterGeneration = -1;
+    private int mMeasuredStyleGeneration = -1;
+    private int mMeasuredItemsWidth;
+
+    // Positions of item views kept by the last rebuild, other views are new
+    private int mKeptItemsStart;
+    private int mKeptItemsCount;
+
     // Listeners
-    private List<OnWheelChangedListener> mChangingListeners = new LinkedList<OnWheelChangedListener>();
-    private List<OnWheelScrollListener> mScrollingListeners = new LinkedList<OnWheelScrollListener>();
-    private List<OnWheelClickedListener> mClickingListeners = new LinkedList<OnWheelClickedListener>();
+    private List<OnWheelChangedListener> mChangingListeners = new ArrayList<OnWheelChangedListener>();
+    private List<OnWheelScrollListener> mScrollingListeners = new ArrayList<OnWheelScrollListener>();
+    private List<OnWheelClickedListener> mClickingListeners = new ArrayList<OnWheelClickedListener>();
+
+    // Listener snapshots, rebuilt after listeners change, so dispatch does not
+    // allocate and listeners may be removed while being notified
+    private OnWheelChangedListener[] mChangingSnapshot;
+    private OnWheelScrollListener[] mScrollingSnapshot;
+    private OnWheelClickedListener[] mClickingSnapshot;
+
+    // Coalesced dispatch
+    private boolean mCoalesceEvents;
+    private boolean mChangePending;
+    private int mPendingOldItem;
+    // The pending change comes from a data change and is posted
+    private boolean mChangePosted;
+    private int mReportedItem = -1;
+    private View mReportedItemView;
+
+    // Item the labels around which were last laid out in background, -1 for none
+    private int mPrecomputedItem = -1;
+
+    // Reused adapter indices of labels missing from the layout cache
+    private int[] mMissingLabels;
+
+    // Performance counters, null when disabled
+    private WheelMetrics mMetrics;
+
+    // Jump scrolling, a long animated scroll skips the items between
+    private boolean mJumpScrollEnabled;
+    private boolean mJumping;
 
     /**
      * current Item listener.
@@ -189,6 +274,8 @@ public class WheelView extends View {
         }
 
         public void onFinished() {
+            mJumping = false;
+            dispatchPendingChange();
             if (mIsScrollingPerformed) {
                 notifyScrollingListenersAboutEnd();
                 mIsScrollingPerformed = false;
@@ -203,6 +290,20 @@ public class WheelView extends View {
                 mScroller.scroll(mScrollingOffset, 0);
             }
         }
+
+        public int adjustFlingDistance(int distance) {
+            int itemHeight = getItemHeight();
+            if (itemHeight == 0 || mViewAdapter == null || mViewAdapter.getItemsCount() == 0) {
+                return distance;
+            }
+            // items the wheel moves by, the current item becomes mCurrentItem - items
+            int items = Math.round((float) (mScrollingOffset + distance) / itemHeight);
+            if (!mIsCyclic) {
+                items = Math.max(mCurrentItem - mViewAdapter.getItemsCount() + 1,
+                        Math.min(items, mCurrentItem));
+            }
+            return items * itemHeight - mScrollingOffset;
+        }
     };
 
     /**
@@ -232,6 +333,8 @@ public class WheelView extends View {
      */
     public void setVisibleItems(int count) {
         mVisibleItems = count;
+        // measured width depends on the items shown while measuring
+        mAdapterGeneration++;
     }
 
     /**
@@ -244,16 +347,46 @@ public class WheelView extends View {
     }
 
     // Adapter listener
-    private DataSetObserver mDataObserver = new DataSetObserver() {
+    private WheelDataObserver mDataObserver = new WheelDataObserver() {
         @Override
         public void onChanged() {
             invalidateWheel(false);
+            invalidateMeasureCache();
         }
 
         @Override
         public void onInvalidated() {
             invalidateWheel(true);
         }
+
+        @Override
+        public void onItemRangeChanged(int start, int count) {
+            rebindItems(start, start + count);
+            // the rebound labels may be wider, item views are kept
+            mMeasuredItemsWidth = 0;
+            requestLayout();
+        }
+
+        @Override
+        public void onItemRangeInserted(int start, int count) {
+            onItemsCountChanged(start, count);
+            invalidateMeasureCache();
+        }
+
+        @Override
+        public void onItemRangeRemoved(int start, int count) {
+            onItemsCountChanged(start, -count);
+            invalidateMeasureCache();
+        }
+
+        @Override
+        public void onStyleChanged() {
+            // text paint and item height follow the adapter style
+            mTextRenderer.updateStyle();
+            mItemHeight = 0;
+            invalidateWheel(false);
+            invalidateMeasureCache();
+        }
     };
 
     /**
@@ -269,10 +402,353 @@ public class WheelView extends View {
         mViewAdapter = viewAdapter;
         if (mViewAdapter != null) {
             mViewAdapter.registerDataSetObserver(mDataObserver);
+            getViewPool().ensureViewTypeCount(getViewTypeCount(mViewAdapter));
+        }
+        mTextRenderer.setAdapter(mViewAdapter instanceof WheelTextAdapter
+                ? (WheelTextAdapter) mViewAdapter : null);
+        if (mLabelAtlas != null) {
+            // labels of the old adapter would only fill the atlas
+            mLabelAtlas.evict();
+        }
+        mCycles = 0;
+        mPrecomputedItem = -1;
+        precomputeLabels();
+
+        invalidateWheel(true);
+    }
+
+    /**
+     * Gets the pool recycled item views are put to.
+     *
+     * @return the view pool
+     */
+    public WheelViewPool getViewPool() {
+        return mRecycle.getViewPool();
+    }
 
+    /**
+     * Sets a view pool shared with other wheels. Adapters of all wheels
+     * sharing a pool must create compatible views for the same view type.
+     *
+     * @param pool the shared pool or null to use a private one
+     */
+    public void setViewPool(WheelViewPool pool) {
+        invalidateWheel(true);
+        mRecycle.setViewPool(pool);
+        if (mViewAdapter != null) {
+            getViewPool().ensureViewTypeCount(getViewTypeCount(mViewAdapter));
         }
+    }
+
+    /**
+     * Gets the number of view types the adapter creates.
+     *
+     * @param adapter the adapter
+     * @return the number of view types, 1 unless the adapter reports types
+     */
+    private static int getViewTypeCount(WheelViewAdapter adapter) {
+        return adapter instanceof WheelViewTypeAdapter
+                ? ((WheelViewTypeAdapter) adapter).getViewTypeCount() : 1;
+    }
 
+    /**
+     * Inflates item views on a background thread into the view pool, so the
+     * first draw only binds them. Call it after setting a layout resource
+     * based {@link AbstractWheelTextAdapter} and before the wheel is attached.
+     * Each view is pooled under the view type of the item it is inflated for.
+     * Adapters creating plain text views have nothing worth inflating.
+     */
+    public void preInflateItems() {
+        preInflateItems(AsyncTask.THREAD_POOL_EXECUTOR);
+    }
+
+    /**
+     * Inflates item views with the specified executor into the view pool.
+     *
+     * @param executor the background executor
+     * @see #preInflateItems()
+     */
+    public void preInflateItems(Executor executor) {
+        if (!(mViewAdapter instanceof AbstractWheelTextAdapter) || isTextDrawMode()) {
+            return;
+        }
+        final AbstractWheelTextAdapter adapter = (AbstractWheelTextAdapter) mViewAdapter;
+        // TEXT_VIEW_ITEM_RESOURCE and NO_RESOURCE have no layout to inflate
+        if (adapter.getItemResource() <= 0 || adapter.getItemsCount() == 0) {
+            return;
+        }
+        // view types of the items shown first, around the current item
+        int itemsCount = adapter.getItemsCount();
+        int[] types = new int[mVisibleItems + 2];
+        int first = mCurrentItem - types.length / 2;
+        int count = 0;
+        for (int i = first; i < first + types.length; i++) {
+            if (isValidItemIndex(i)) {
+                types[count++] = adapter.getItemViewType(floorMod(i, itemsCount));
+            }
+        }
+        final int[] viewTypes = types;
+        final int viewCount = count;
+        final WheelViewPool pool = getViewPool();
+        if (pool.getMaxViewsPerType() < viewCount) {
+            pool.setMaxViewsPerType(viewCount);
+        }
+        createItemsLayout();
+        final LinearLayout parent = mItemsLayout;
+        final Handler mainHandler = new Handler(Looper.getMainLooper());
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                final View[] views = new View[viewCount];
+                for (int i = 0; i < viewCount; i++) {
+                    views[i] = adapter.createItemView(parent);
+                }
+                mainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        // the adapter may be replaced while inflating
+                        if (mViewAdapter != adapter) {
+                            return;
+                        }
+                        for (int i = 0; i < views.length; i++) {
+                            if (views[i] != null) {
+                                mRecycle.setViewType(views[i], viewTypes[i]);
+                                pool.put(views[i], viewTypes[i]);
+                            }
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Tests if wheel paints text items directly on canvas.
+     *
+     * @return true if text items are drawn without item views
+     */
+    public boolean isDrawTextDirectly() {
+        return mDrawTextDirectly;
+    }
+
+    /**
+     * Sets text drawing mode. When it is on and the adapter is a
+     * {@link WheelTextAdapter}, item labels are painted straight on the canvas
+     * and no item views are created, laid out or recycled while scrolling.
+     * Other adapters keep using item views.
+     *
+     * @param drawTextDirectly true to paint text items on canvas
+     */
+    public void setDrawTextDirectly(boolean drawTextDirectly) {
+        if (mDrawTextDirectly == drawTextDirectly) {
+            return;
+        }
+        mDrawTextDirectly = drawTextDirectly;
+        mTextRenderer.updateStyle();
+        mItemHeight = 0;
+        mPrecomputedItem = -1;
+        precomputeLabels();
         invalidateWheel(true);
+        requestLayout();
+    }
+
+    /**
+     * Sets text style of the center row. Rows are drawn twice with
+     * complementary clips, in the adapter style outside the center band and
+     * in this style inside it, so the highlight needs no item view changes.
+     * Applies when the adapter is a {@link WheelTextAdapter}, not to curved
+     * wheels.
+     *
+     * @param color    the text color
+     * @param textSize the text size in sp, like adapter text sizes
+     */
+    public void setCenterTextStyle(int color, float textSize) {
+        mTextRenderer.setCenterStyle(true, color, TypedValue.applyDimension(
+                TypedValue.COMPLEX_UNIT_SP, textSize, getResources().getDisplayMetrics()));
+        mStripValid = false;
+        mPrecomputedItem = -1;
+        precomputeLabels();
+        invalidate();
+    }
+
+    /**
+     * Draws the center row in the adapter style again.
+     */
+    public void clearCenterTextStyle() {
+        mTextRenderer.setCenterStyle(false, 0, 0);
+        mStripValid = false;
+        invalidate();
+    }
+
+    /**
+     * Tests if fling snapshot is used.
+     *
+     * @return true if flings are drawn from a snapshot
+     */
+    public boolean isFlingSnapshotEnabled() {
+        return mFlingSnapshotEnabled;
+    }
+
+    /**
+     * Sets fling snapshot mode. Only applies to text drawing mode, see
+     * {@link #setDrawTextDirectly(boolean)}. When a fling starts the visible
+     * rows plus a margin are captured into one bitmap, fling frames only
+     * translate it and capture again when the fling moves past the margin.
+     *
+     * @param enabled true to draw flings from a snapshot
+     */
+    public void setFlingSnapshotEnabled(boolean enabled) {
+        mFlingSnapshotEnabled = enabled;
+        if (!enabled) {
+            releaseStrip();
+        }
+    }
+
+    /**
+     * Tests if wheel is drawn as a curved drum.
+     *
+     * @return true if curved drawing is on
+     */
+    public boolean isCurved() {
+        return mCurved;
+    }
+
+    /**
+     * Sets curved drum drawing. Only applies to text drawing mode, see
+     * {@link #setDrawTextDirectly(boolean)}. Rows are rotated, scaled and faded
+     * by their distance from the center using precomputed transforms, which
+     * are rebuilt only when the wheel size, item height or visible items
+     * change. Curved wheels do not use the fling snapshot.
+     *
+     * @param curved true to draw a curved drum
+     */
+    public void setCurved(boolean curved) {
+        mCurved = curved;
+        if (curved && mCurveTable == null) {
+            mCurveTable = new WheelCurveTable();
+        } else if (!curved) {
+            mCurveTable = null;
+        }
+        invalidate();
+    }
+
+    /**
+     * Drops fling snapshot bitmap.
+     */
+    private void releaseStrip() {
+        mStripValid = false;
+        mStripBitmap = null;
+        mStripCanvas = null;
+    }
+
+    /**
+     * Tests if label atlas is used.
+     *
+     * @return true if labels are drawn from a bitmap atlas
+     */
+    public boolean isLabelAtlasEnabled() {
+        return mLabelAtlas != null;
+    }
+
+    /**
+     * Sets label atlas mode. Only applies to text drawing mode, see
+     * {@link #setDrawTextDirectly(boolean)}. Each distinct label is rasterized
+     * once into a bitmap atlas of at most maxBytes, drawing a row is then a
+     * bitmap blit. Labels are cached by text, so they survive data changes of
+     * the adapter. The atlas is evicted on adapter change, text style change
+     * and memory trim. Labels of rows next to the shown ones are rendered in
+     * the same frame as a new label, so the atlas is uploaded once for them.
+     *
+     * @param enabled  true to draw labels from atlas
+     * @param maxBytes the max atlas memory in bytes
+     */
+    public void setLabelAtlasEnabled(boolean enabled, int maxBytes) {
+        if (enabled) {
+            if (mLabelAtlas == null) {
+                mLabelAtlas = new WheelLabelAtlas();
+            }
+            mLabelAtlas.setMaxBytes(maxBytes);
+            registerAtlasCallbacks();
+        } else if (mLabelAtlas != null) {
+            unregisterAtlasCallbacks();
+            mLabelAtlas.evict();
+            mLabelAtlas = null;
+        }
+        invalidate();
+    }
+
+    /**
+     * Sets label atlas mode with default atlas memory.
+     *
+     * @param enabled true to draw labels from atlas
+     * @see #setLabelAtlasEnabled(boolean, int)
+     */
+    public void setLabelAtlasEnabled(boolean enabled) {
+        setLabelAtlasEnabled(enabled, WheelLabelAtlas.DEFAULT_MAX_BYTES);
+    }
+
+    // Drops label atlas when the system is low on memory
+    private ComponentCallbacks2 mAtlasCallbacks = new ComponentCallbacks2() {
+        @Override
+        public void onTrimMemory(int level) {
+            if (mLabelAtlas != null) {
+                mLabelAtlas.evict();
+            }
+        }
+
+        @Override
+        public void onConfigurationChanged(Configuration newConfig) {
+        }
+
+        @Override
+        public void onLowMemory() {
+            onTrimMemory(TRIM_MEMORY_COMPLETE);
+        }
+    };
+
+    /**
+     * Registers memory trim callbacks when atlas is used and wheel is attached.
+     */
+    private void registerAtlasCallbacks() {
+        if (mLabelAtlas != null && !mAtlasCallbacksRegistered && getWindowToken() != null) {
+            getContext().getApplicationContext().registerComponentCallbacks(mAtlasCallbacks);
+            mAtlasCallbacksRegistered = true;
+        }
+    }
+
+    /**
+     * Unregisters memory trim callbacks.
+     */
+    private void unregisterAtlasCallbacks() {
+        if (mAtlasCallbacksRegistered) {
+            getContext().getApplicationContext().unregisterComponentCallbacks(mAtlasCallbacks);
+            mAtlasCallbacksRegistered = false;
+        }
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        registerAtlasCallbacks();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        unregisterAtlasCallbacks();
+        if (mLabelAtlas != null) {
+            mLabelAtlas.evict();
+        }
+        releaseStrip();
+    }
+
+    /**
+     * Checks whether items are painted directly on canvas.
+     *
+     * @return true if text drawing mode is on and adapter supports it
+     */
+    private boolean isTextDrawMode() {
+        return mDrawTextDirectly && mTextRenderer.getAdapter() != null;
     }
 
     /**
@@ -282,6 +758,7 @@ public class WheelView extends View {
      */
     public void addChangingListener(OnWheelChangedListener listener) {
         mChangingListeners.add(listener);
+        mChangingSnapshot = null;
     }
 
     /**
@@ -291,6 +768,7 @@ public class WheelView extends View {
      */
     public void removeChangingListener(OnWheelChangedListener listener) {
         mChangingListeners.remove(listener);
+        mChangingSnapshot = null;
     }
 
     /**
@@ -300,7 +778,11 @@ public class WheelView extends View {
      * @param newValue the new wheel value
      */
     protected void notifyChangingListeners(int oldValue, int newValue) {
-        for (OnWheelChangedListener listener : mChangingListeners) {
+        if (mChangingSnapshot == null) {
+            mChangingSnapshot = mChangingListeners.toArray(
+                    new OnWheelChangedListener[mChangingListeners.size()]);
+        }
+        for (OnWheelChangedListener listener : mChangingSnapshot) {
             listener.onChanged(this, oldValue, newValue);
         }
     }
@@ -312,6 +794,7 @@ public class WheelView extends View {
      */
     public void addScrollingListener(OnWheelScrollListener listener) {
         mScrollingListeners.add(listener);
+        mScrollingSnapshot = null;
     }
 
     /**
@@ -321,13 +804,14 @@ public class WheelView extends View {
      */
     public void removeScrollingListener(OnWheelScrollListener listener) {
         mScrollingListeners.remove(listener);
+        mScrollingSnapshot = null;
     }
 
     /**
      * Notifies listeners about starting scrolling.
      */
     protected void notifyScrollingListenersAboutStart() {
-        for (OnWheelScrollListener listener : mScrollingListeners) {
+        for (OnWheelScrollListener listener : getScrollingSnapshot()) {
             listener.onScrollingStarted(this);
         }
     }
@@ -336,11 +820,24 @@ public class WheelView extends View {
      * Notifies listeners about ending scrolling.
      */
     protected void notifyScrollingListenersAboutEnd() {
-        for (OnWheelScrollListener listener : mScrollingListeners) {
+        for (OnWheelScrollListener listener : getScrollingSnapshot()) {
             listener.onScrollingFinished(this);
         }
     }
 
+    /**
+     * Gets snapshot of scrolling listeners.
+     *
+     * @return the listeners array
+     */
+    private OnWheelScrollListener[] getScrollingSnapshot() {
+        if (mScrollingSnapshot == null) {
+            mScrollingSnapshot = mScrollingListeners.toArray(
+                    new OnWheelScrollListener[mScrollingListeners.size()]);
+        }
+        return mScrollingSnapshot;
+    }
+
     /**
      * Adds wheel clicking listener.
      *
@@ -348,6 +845,7 @@ public class WheelView extends View {
      */
     public void addClickingListener(OnWheelClickedListener listener) {
         mClickingListeners.add(listener);
+        mClickingSnapshot = null;
     }
 
     /**
@@ -357,17 +855,124 @@ public class WheelView extends View {
      */
     public void removeClickingListener(OnWheelClickedListener listener) {
         mClickingListeners.remove(listener);
+        mClickingSnapshot = null;
     }
 
     /**
      * Notifies listeners about clicking.
      */
     protected void notifyClickListenersAboutClick(int item) {
-        for (OnWheelClickedListener listener : mClickingListeners) {
+        if (mClickingSnapshot == null) {
+            mClickingSnapshot = mClickingListeners.toArray(
+                    new OnWheelClickedListener[mClickingListeners.size()]);
+        }
+        for (OnWheelClickedListener listener : mClickingSnapshot) {
             listener.onItemClicked(this, item);
         }
     }
 
+    /**
+     * Gets performance counters.
+     *
+     * @return the metrics or null if they are disabled
+     */
+    public WheelMetrics getMetrics() {
+        return mMetrics;
+    }
+
+    /**
+     * Sets performance metrics collection. When it is off, the wheel does
+     * not read clocks or count anything.
+     *
+     * @param enabled true to collect metrics
+     * @see #getMetrics()
+     */
+    public void setMetricsEnabled(boolean enabled) {
+        if (enabled == (mMetrics != null)) {
+            return;
+        }
+        if (enabled) {
+            WindowManager windowManager = (WindowManager) getContext()
+                    .getSystemService(Context.WINDOW_SERVICE);
+            float refreshRate = windowManager.getDefaultDisplay().getRefreshRate();
+            mMetrics = new WheelMetrics(refreshRate > 0
+                    ? (long) (TimeUnit.SECONDS.toNanos(1) / refreshRate) : 0);
+        } else {
+            mMetrics = null;
+        }
+        mRecycle.setMetrics(mMetrics);
+    }
+
+    /**
+     * Tests if events are coalesced.
+     *
+     * @return true if coalesced dispatch is on
+     */
+    public boolean isCoalesceEvents() {
+        return mCoalesceEvents;
+    }
+
+    /**
+     * Sets coalesced dispatch. When it is on, changes made by scrolling are
+     * reported to changing listeners at most once per frame, from the first
+     * old value to the latest value, and {@link CurrentItemListener} is only
+     * called when the current item or its view changes.
+     *
+     * @param coalesceEvents true to coalesce events
+     */
+    public void setCoalesceEvents(boolean coalesceEvents) {
+        if (!coalesceEvents) {
+            dispatchPendingChange();
+        }
+        mCoalesceEvents = coalesceEvents;
+        mReportedItem = -1;
+        mReportedItemView = null;
+    }
+
+    /**
+     * Tests if long animated scrolls jump.
+     *
+     * @return true if jump scrolling is on
+     */
+    public boolean isJumpScrollEnabled() {
+        return mJumpScrollEnabled;
+    }
+
+    /**
+     * Sets jump scrolling. When it is on, {@link #setCurrentItem(int, boolean)}
+     * with animation over more than twice the visible items moves the wheel
+     * straight next to the target and scrolls only the last
+     * {@link #getVisibleItems()} items. Items in between are never bound and
+     * changing listeners are notified once, when the scrolling finishes.
+     *
+     * @param jumpScrollEnabled true to jump on long scrolls
+     */
+    public void setJumpScrollEnabled(boolean jumpScrollEnabled) {
+        mJumpScrollEnabled = jumpScrollEnabled;
+    }
+
+    // Dispatches a change collected outside of scrolling
+    private Runnable mDispatchPendingChange = new Runnable() {
+        @Override
+        public void run() {
+            dispatchPendingChange();
+        }
+    };
+
+    /**
+     * Notifies changing listeners about the change collected during the frame.
+     * A jump reports its change when the scrolling finishes.
+     */
+    private void dispatchPendingChange() {
+        if (mChangePending && !mJumping) {
+            mChangePending = false;
+            mChangePosted = false;
+            if (mPendingOldItem != mCurrentItem) {
+                notifyChangingListeners(mPendingOldItem, mCurrentItem);
+            }
+        }
+    }
+
     /**
      * Gets current value.
      *
@@ -378,12 +983,50 @@ public class WheelView extends View {
     }
 
     /**
-     * Sets the current item. Does nothing when index is wrong.
+     * Gets logical position of a cyclic wheel. It keeps counting when the
+     * wheel turns past its last or first item, so a full turn forward adds
+     * items count. For non cyclic wheels it is the current item.
+     *
+     * @return the logical position
+     */
+    public long getCurrentPosition() {
+        int itemCount = mViewAdapter != null ? mViewAdapter.getItemsCount() : 0;
+        return mCycles * itemCount + mCurrentItem;
+    }
+
+    /**
+     * Maps logical position to index in range [0, count), also for negative
+     * positions.
+     *
+     * @param position the logical position
+     * @param count    the items count, greater than 0
+     * @return the index
+     */
+    static int floorMod(long position, int count) {
+        int index = (int) (position % count);
+        return index < 0 ? index + count : index;
+    }
+
+    /**
+     * Sets the current item. Does nothing when index is wrong. Setting the
+     * item an adapter change moved the wheel to, without animation, drops the
+     * posted report of that move, the caller is expected to handle the item.
      *
      * @param index    the item index
      * @param animated the animation flag
      */
     public void setCurrentItem(int index, boolean animated) {
+        setCurrentItem(index, animated, false);
+    }
+
+    /**
+     * Sets the current item. Does nothing when index is wrong.
+     *
+     * @param index      the item index
+     * @param animated   the animation flag
+     * @param fromScroll true if the change comes from scrolling and may be coalesced
+     */
+    private void setCurrentItem(int index, boolean animated, boolean fromScroll) {
         if (mViewAdapter == null || mViewAdapter.getItemsCount() == 0) {
             return; // throw?
         }
@@ -391,14 +1034,22 @@ public class WheelView extends View {
         int itemCount = mViewAdapter.getItemsCount();
         if (index < 0 || index >= itemCount) {
             if (mIsCyclic) {
-                while (index < 0) {
-                    index += itemCount;
+                int adapterIndex = floorMod(index, itemCount);
+                if (!animated) {
+                    mCycles += ((long) index - adapterIndex) / itemCount;
                 }
-                index %= itemCount;
+                index = adapterIndex;
             } else {
                 return; // throw?
             }
         }
+        if (index == mCurrentItem && !animated && mChangePosted) {
+            // the caller settled on the item a data change moved to, it
+            // handles the item itself, so it is not reported once more later
+            mChangePending = false;
+            mChangePosted = false;
+            removeCallbacks(mDispatchPendingChange);
+        }
         if (index != mCurrentItem) {
             if (animated) {
                 int itemsToScroll = index - mCurrentItem;
@@ -409,18 +1060,106 @@ public class WheelView extends View {
                         itemsToScroll = itemsToScroll < 0 ? scroll : -scroll;
                     }
                 }
+                if (mJumpScrollEnabled && Math.abs(itemsToScroll) > 2 * mVisibleItems) {
+                    itemsToScroll = jumpTowards(index, itemsToScroll);
+                }
                 scroll(itemsToScroll, 0);
             } else {
                 mScrollingOffset = 0;
 
                 int old = mCurrentItem;
                 mCurrentItem = index;
-                notifyChangingListeners(old, mCurrentItem);
+                precomputeLabels();
+                if (fromScroll && (mCoalesceEvents || mJumping)) {
+                    if (!mChangePending) {
+                        mChangePending = true;
+                        mPendingOldItem = old;
+                    }
+                } else {
+                    mJumping = false;
+                    dispatchPendingChange();
+                    notifyChangingListeners(old, mCurrentItem);
+                }
                 invalidate();
             }
         }
     }
 
+    /**
+     * Lays out labels around the current item in background if the text
+     * adapter asks for it and the wheel moved far enough since the last time.
+     * Layouts go to the shared {@link WheelTextLayoutCache}, which only
+     * labels painted on canvas read, so item view wheels without center
+     * style skip it. Nothing is allocated unless some label is not cached.
+     */
+    private void precomputeLabels() {
+        WheelTextAdapter adapter = mTextRenderer.getAdapter();
+        int radius = adapter != null ? adapter.getPrecomputeRadius() : 0;
+        boolean textDrawMode = isTextDrawMode();
+        if (radius == 0 || (!textDrawMode && !mTextRenderer.isCenterStyleEnabled())
+                || (mPrecomputedItem >= 0
+                && Math.abs(mCurrentItem - mPrecomputedItem) <= radius / 2)) {
+            return;
+        }
+        mPrecomputedItem = mCurrentItem;
+        int count = adapter.getItemsCount();
+        WheelTextLayoutCache cache = WheelTextLayoutCache.getInstance();
+        // item views draw all rows but the center one
+        TextPaint paint = textDrawMode ? mTextRenderer.getPaint() : mTextRenderer.getCenterPaint();
+        if (mMissingLabels == null || mMissingLabels.length < 2 * radius + 1) {
+            mMissingLabels = new int[2 * radius + 1];
+        }
+        int missing = 0;
+        for (int i = mCurrentItem - radius; i <= mCurrentItem + radius; i++) {
+            int adapterIndex = mTextRenderer.getAdapterIndex(i, count, mIsCyclic);
+            CharSequence label = adapterIndex >= 0 ? adapter.getItemLabel(adapterIndex) : null;
+            if (!TextUtils.isEmpty(label) && !cache.contains(label, paint)) {
+                mMissingLabels[missing++] = adapterIndex;
+            }
+        }
+        if (missing == 0) {
+            return;
+        }
+        // labels may be reused buffers, copy the ones not cached yet
+        String[] labels = new String[missing];
+        for (int i = 0; i < missing; i++) {
+            labels[i] = adapter.getItemLabel(mMissingLabels[i]).toString();
+        }
+        cache.precompute(labels, paint, AsyncTask.THREAD_POOL_EXECUTOR);
+    }
+
+    /**
+     * Moves the wheel next to target item without binding the items in
+     * between. The change is reported when the following scroll finishes.
+     *
+     * @param index         the target item index
+     * @param itemsToScroll the items to scroll to target
+     * @return the items left to scroll from the new position
+     */
+    private int jumpTowards(int index, int itemsToScroll) {
+        int itemsLeft = itemsToScroll > 0 ? mVisibleItems : -mVisibleItems;
+        int landing = index - itemsLeft;
+        if (mIsCyclic) {
+            // itemsToScroll may take the short way round
+            int itemCount = mViewAdapter.getItemsCount();
+            long position = (long) mCurrentItem + itemsToScroll - itemsLeft;
+            landing = floorMod(position, itemCount);
+            mCycles += (position - landing) / itemCount;
+        }
+        mScroller.stopScrolling();
+        if (!mChangePending) {
+            mChangePending = true;
+            mPendingOldItem = mCurrentItem;
+        }
+        mJumping = true;
+        mCurrentItem = landing;
+        mScrollingOffset = 0;
+        mStripValid = false;
+        // items are rebuilt around the landing item on the next draw
+        invalidate();
+        return itemsLeft;
+    }
+
     /**
      * Sets the current item w/o animation. Does nothing when index is wrong.
      *
@@ -447,6 +1186,7 @@ public class WheelView extends View {
      */
     public void setCyclic(boolean isCyclic) {
         this.mIsCyclic = isCyclic;
+        mCycles = 0;
         invalidateWheel(false);
     }
 
@@ -456,20 +1196,133 @@ public class WheelView extends View {
      * @param clearCaches if true then cached views will be clear
      */
     public void invalidateWheel(boolean clearCaches) {
+        // item views are rebound, report current item again
+        mReportedItemView = null;
+        mStripValid = false;
         if (clearCaches) {
+            mAdapterGeneration++;
             mRecycle.clearAll();
             if (mItemsLayout != null) {
-                mItemsLayout.removeAllViews();
+                if (mRecycle.isPoolShared()) {
+                    // views of a shared pool stay reusable by other wheels
+                    mRecycle.recycleItems(mItemsLayout, mFirstItem, mEmptyRange);
+                } else {
+                    mItemsLayout.removeAllViews();
+                }
             }
             mScrollingOffset = 0;
         } else if (mItemsLayout != null) {
             // cache all items
-            mRecycle.recycleItems(mItemsLayout, mFirstItem, new ItemsRange());
+            mRecycle.recycleItems(mItemsLayout, mFirstItem, mEmptyRange);
         }
 
         invalidate();
     }
 
+    /**
+     * Rebinds visible items whose adapter index is in the specified range.
+     * Other item views, measured sizes and pooled views are kept.
+     *
+     * @param start the first adapter index
+     * @param end   the adapter index after the last one
+     */
+    private void rebindItems(int start, int end) {
+        if (mViewAdapter == null || mViewAdapter.getItemsCount() == 0) {
+            invalidateWheel(false);
+            return;
+        }
+        mStripValid = false;
+        if (mItemsLayout != null && !isTextDrawMode()) {
+            int count = mViewAdapter.getItemsCount();
+            for (int i = 0; i < mItemsLayout.getChildCount(); i++) {
+                int index = mFirstItem + i;
+                int adapterIndex = mIsCyclic ? mTextRenderer.getAdapterIndex(index, count, true) : index;
+                if (adapterIndex >= start && adapterIndex < end && !rebindItem(i, index)) {
+                    invalidateWheel(false);
+                    return;
+                }
+            }
+        }
+        // the current row may be rebound, report it again
+        mReportedItemView = null;
+        invalidate();
+    }
+
+    /**
+     * Handles inserted or removed adapter items. The current item stays on
+     * the same adapter item, its index shifts when items before it change.
+     * If the current item is removed, the item after the removed ones becomes
+     * current. Only rows that show another item now are rebound. A change of
+     * the current item is reported to changing listeners after the adapter
+     * notification returns.
+     *
+     * @param start the adapter index of the first inserted or removed item
+     * @param delta the count of inserted items, negative for removed ones
+     */
+    private void onItemsCountChanged(int start, int delta) {
+        if (mViewAdapter == null || mViewAdapter.getItemsCount() == 0) {
+            invalidateWheel(false);
+            return;
+        }
+        int count = mViewAdapter.getItemsCount();
+        int old = mCurrentItem;
+        int rebindStart = start;
+        int rebindEnd = Integer.MAX_VALUE;
+        if (mCurrentItem >= start - Math.min(delta, 0)) {
+            // the current item is after the change, keep it in place and move
+            // the window, rows before the change point show other items now
+            mCurrentItem += delta;
+            mFirstItem += delta;
+            rebindStart = Integer.MIN_VALUE;
+            rebindEnd = start + Math.max(delta, 0);
+        } else if (mCurrentItem >= start) {
+            // the current item is removed
+            mCurrentItem = start;
+        }
+        if (mCurrentItem >= count) {
+            mCurrentItem = count - 1;
+        }
+        if (mCurrentItem != old) {
+            // listeners may change adapters, never call them from inside
+            // the adapter notification
+            if (!mChangePending) {
+                mChangePending = true;
+                mChangePosted = true;
+                mPendingOldItem = old;
+            }
+            removeCallbacks(mDispatchPendingChange);
+            post(mDispatchPendingChange);
+        }
+        if (mIsCyclic) {
+            // all cyclic rows wrap differently now
+            rebindStart = 0;
+            rebindEnd = count;
+        }
+        rebindItems(rebindStart, rebindEnd);
+    }
+
+    /**
+     * Rebinds item view in the items layout, reusing the view when it has
+     * the right view type.
+     *
+     * @param position the position in items layout
+     * @param index    the item index
+     * @return false if adapter gives no view for the item
+     */
+    private boolean rebindItem(int position, int index) {
+        View oldView = mItemsLayout.getChildAt(position);
+        View view = getItemView(index, oldView);
+        if (view == null) {
+            return false;
+        }
+        if (view != oldView) {
+            mItemsLayout.removeViewAt(position);
+            mRecycle.recycle(oldView, index);
+            mItemsLayout.addView(view, position);
+        }
+        return true;
+    }
+
     /**
      * Initializes resources.
      */
@@ -480,16 +1333,42 @@ public class WheelView extends View {
     }
 
     /**
-     * Calculates desired height for layout.
+     * Drops cached item sizes after adapter items changed and requests
+     * measuring the wheel again.
+     */
+    private void invalidateMeasureCache() {
+        mAdapterGeneration++;
+        requestLayout();
+    }
+
+    /**
+     * Tests whether cached item sizes are still valid. Any adapter change
+     * except rebinding a range of items drops the cache.
      *
-     * @param layout the source layout
-     * @return the desired layout height
+     * @return true if cached item sizes can be used
      */
-    private int getDesiredHeight(LinearLayout layout) {
-        if (layout != null && layout.getChildAt(0) != null) {
-            mItemHeight = layout.getChildAt(0).getMeasuredHeight();
+    private boolean isMeasureCacheValid() {
+        return mMeasuredAdapterGeneration == mAdapterGeneration
+                && mMeasuredStyleGeneration == mTextRenderer.getStyleGeneration();
+    }
+
+    /**
+     * Reads item height from text style or from the first measured item view.
+     */
+    private void updateItemHeight() {
+        if (isTextDrawMode()) {
+            mItemHeight = mTextRenderer.getItemHeight();
+        } else if (mItemsLayout != null && mItemsLayout.getChildAt(0) != null) {
+            mItemHeight = mItemsLayout.getChildAt(0).getMeasuredHeight();
         }
+    }
 
+    /**
+     * Calculates desired height for layout.
+     *
+     * @return the desired layout height
+     */
+    private int getDesiredHeight() {
         int desired = mItemHeight * mVisibleItems - mItemHeight
                 * ITEM_OFFSET_PERCENT / MAX_OFFSET_BASIC_NUM;
 
@@ -506,6 +1385,11 @@ public class WheelView extends View {
             return mItemHeight;
         }
 
+        if (isTextDrawMode() && mTextRenderer.getItemHeight() != 0) {
+            mItemHeight = mTextRenderer.getItemHeight();
+            return mItemHeight;
+        }
+
         if (mItemsLayout != null && mItemsLayout.getChildAt(0) != null) {
             mItemHeight = mItemsLayout.getChildAt(0).getHeight();
             return mItemHeight;
@@ -524,18 +1408,11 @@ public class WheelView extends View {
     private int calculateLayoutWidth(int widthSize, int mode) {
         initResourcesIfNecessary();
 
-        // TODO: make it static
-        mItemsLayout.setLayoutParams(new LayoutParams(LayoutParams.WRAP_CONTENT,
-                LayoutParams.WRAP_CONTENT));
-        mItemsLayout.measure(MeasureSpec.makeMeasureSpec(widthSize,
-                MeasureSpec.UNSPECIFIED), MeasureSpec.makeMeasureSpec(
-                0, MeasureSpec.UNSPECIFIED));
-        int width = mItemsLayout.getMeasuredWidth();
-
+        int width;
         if (mode == MeasureSpec.EXACTLY) {
             width = widthSize;
         } else {
-            width += 2 * PADDING;
+            width = getItemsWidth(widthSize) + 2 * PADDING;
 
             // Check against our minimum width
             width = Math.max(width, getSuggestedMinimumWidth());
@@ -545,13 +1422,39 @@ public class WheelView extends View {
             }
         }
 
-        mItemsLayout.measure(MeasureSpec.makeMeasureSpec(width - 2 * PADDING,
-                MeasureSpec.EXACTLY), MeasureSpec.makeMeasureSpec(0,
-                MeasureSpec.UNSPECIFIED));
+        if (!isTextDrawMode()) {
+            mItemsLayout.measure(MeasureSpec.makeMeasureSpec(width - 2 * PADDING,
+                    MeasureSpec.EXACTLY), MeasureSpec.makeMeasureSpec(0,
+                    MeasureSpec.UNSPECIFIED));
+        }
 
         return width;
     }
 
+    /**
+     * Gets width of the widest item, measuring items only if the cached width
+     * is not valid.
+     *
+     * @param widthSize the input layout width
+     * @return the items width
+     */
+    private int getItemsWidth(int widthSize) {
+        if (isMeasureCacheValid() && mMeasuredItemsWidth != 0) {
+            return mMeasuredItemsWidth;
+        }
+        if (isTextDrawMode()) {
+            int addItems = mVisibleItems / 2;
+            mMeasuredItemsWidth = mTextRenderer.measureWidth(mCurrentItem - addItems,
+                    mCurrentItem + addItems, mViewAdapter.getItemsCount(), mIsCyclic);
+        } else {
+            mItemsLayout.measure(MeasureSpec.makeMeasureSpec(widthSize,
+                    MeasureSpec.UNSPECIFIED), MeasureSpec.makeMeasureSpec(
+                    0, MeasureSpec.UNSPECIFIED));
+            mMeasuredItemsWidth = mItemsLayout.getMeasuredWidth();
+        }
+        return mMeasuredItemsWidth;
+    }
+
     @Override
     protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
         int widthMode = MeasureSpec.getMode(widthMeasureSpec);
@@ -559,15 +1462,30 @@ public class WheelView extends View {
         int widthSize = MeasureSpec.getSize(widthMeasureSpec);
         int heightSize = MeasureSpec.getSize(heightMeasureSpec);
 
-        buildViewForMeasuring();
+        boolean measureCacheValid = isMeasureCacheValid();
+        if (!isTextDrawMode() && (!measureCacheValid || mItemsLayout == null)) {
+            buildViewForMeasuring();
+        }
+        if (!measureCacheValid) {
+            mMeasuredItemsWidth = 0;
+        }
 
+        long start = mMetrics != null ? System.nanoTime() : 0;
         int width = calculateLayoutWidth(widthSize, widthMode);
+        if (mMetrics != null) {
+            mMetrics.addLayoutWidthTime(System.nanoTime() - start);
+        }
+        if (!measureCacheValid || mItemHeight == 0) {
+            updateItemHeight();
+        }
+        mMeasuredAdapterGeneration = mAdapterGeneration;
+        mMeasuredStyleGeneration = mTextRenderer.getStyleGeneration();
 
         int height;
         if (heightMode == MeasureSpec.EXACTLY) {
             height = heightSize;
         } else {
-            height = getDesiredHeight(mItemsLayout);
+            height = getDesiredHeight();
 
             if (heightMode == MeasureSpec.AT_MOST) {
                 height = Math.min(height, heightSize);
@@ -579,7 +1497,9 @@ public class WheelView extends View {
 
     @Override
     protected void onLayout(boolean changed, int l, int t, int r, int b) {
-        layout(r - l, b - t);
+        if (mItemsLayout != null) {
+            layout(r - l, b - t);
+        }
     }
 
     /**
@@ -596,12 +1516,214 @@ public class WheelView extends View {
 
     @Override
     protected void onDraw(Canvas canvas) {
+        long start = mMetrics != null ? System.nanoTime() : 0;
         super.onDraw(canvas);
+        dispatchPendingChange();
+        if (mLabelAtlas != null) {
+            mLabelAtlas.beginFrame();
+        }
         if (mViewAdapter != null && mViewAdapter.getItemsCount() > 0) {
             updateView();
-            drawItems(canvas);
+            boolean curved = isTextDrawMode() && mCurved && mCurveTable.update(getWidth(),
+                    getHeight(), getItemHeight(), mVisibleItems);
+            if (curved) {
+                mStripValid = false;
+                drawCurvedTextItems(canvas);
+            } else if (mTextRenderer.isCenterStyleEnabled() && mTextRenderer.getAdapter() != null) {
+                // rows outside the center band in the normal style, inside it in the center style
+                int center = getHeight() / 2;
+                int bandOffset = (int) ((double) getItemHeight() / 2 * HEIGHT_PADDING);
+                canvas.save();
+                canvas.clipRect(0, 0, getWidth(), center - bandOffset);
+                drawItemsLayer(canvas);
+                canvas.restore();
+                canvas.save();
+                canvas.clipRect(0, center + bandOffset, getWidth(), getHeight());
+                drawItemsLayer(canvas);
+                canvas.restore();
+                canvas.save();
+                canvas.clipRect(0, center - bandOffset, getWidth(), center + bandOffset);
+                drawCenterItems(canvas);
+                canvas.restore();
+            } else {
+                drawItemsLayer(canvas);
+            }
             drawCenterRect(canvas);
         }
+        if (mMetrics != null) {
+            mMetrics.onFrame(start, System.nanoTime(), mScroller.isFlinging());
+        }
+    }
+
+    /**
+     * Draws items in the normal style.
+     *
+     * @param canvas the canvas for drawing
+     */
+    private void drawItemsLayer(Canvas canvas) {
+        if (isTextDrawMode()) {
+            if (mFlingSnapshotEnabled && mScroller.isFlinging()) {
+                drawFlingStrip(canvas);
+            } else {
+                mStripValid = false;
+                drawTextItems(canvas);
+            }
+        } else {
+            drawItems(canvas);
+        }
+    }
+
+    /**
+     * Paints the items crossing the center band in the center style.
+     *
+     * @param canvas the canvas for drawing, clipped to the center band
+     */
+    private void drawCenterItems(Canvas canvas) {
+        int itemHeight = getItemHeight();
+        int count = mViewAdapter.getItemsCount();
+        float centerX = getWidth() / 2f;
+        int top = (getHeight() - itemHeight) / 2 + mScrollingOffset - itemHeight;
+        for (int i = mCurrentItem - 1; i <= mCurrentItem + 1; i++) {
+            int adapterIndex = mTextRenderer.getAdapterIndex(i, count, mIsCyclic);
+            if (adapterIndex >= 0) {
+                mTextRenderer.drawCenterLabel(canvas, adapterIndex, centerX, top);
+            }
+            top += itemHeight;
+        }
+    }
+
+    /**
+     * Paints visible text items directly on canvas.
+     *
+     * @param canvas the canvas for drawing
+     */
+    private void drawTextItems(Canvas canvas) {
+        ItemsRange range = getItemsRange();
+        if (range == null) {
+            return;
+        }
+        int itemHeight = getItemHeight();
+        int top = (getHeight() - itemHeight) / 2 + mScrollingOffset
+                + (range.getFirst() - mCurrentItem) * itemHeight;
+        drawTextRows(canvas, range.getFirst(), range.getLast(), top);
+    }
+
+    /**
+     * Paints visible text items on a curved drum.
+     *
+     * @param canvas the canvas for drawing
+     */
+    private void drawCurvedTextItems(Canvas canvas) {
+        int itemHeight = getItemHeight();
+        int count = mViewAdapter.getItemsCount();
+        float centerX = getWidth() / 2f;
+        int rows = mCurveTable.getSideRows() + 1;
+        for (int i = mCurrentItem - rows; i <= mCurrentItem + rows; i++) {
+            int adapterIndex = mTextRenderer.getAdapterIndex(i, count, mIsCyclic);
+            int entry = mCurveTable.getEntry((i - mCurrentItem) * itemHeight + mScrollingOffset);
+            if (adapterIndex < 0 || entry < 0) {
+                continue;
+            }
+            int alpha = mCurveTable.getAlpha(entry);
+            canvas.save();
+            canvas.concat(mCurveTable.getMatrix(entry));
+            if (mLabelAtlas == null || !mLabelAtlas.draw(canvas, mTextRenderer, adapterIndex,
+                    centerX, 0, alpha)) {
+                mTextRenderer.drawLabel(canvas, adapterIndex, centerX, 0, alpha);
+            }
+            canvas.restore();
+        }
+        prefetchAtlasLabels(mCurrentItem - rows, mCurrentItem + rows);
+    }
+
+    /**
+     * Draws fling frame by translating the strip snapshot, capturing it
+     * again when it does not cover the wheel anymore.
+     *
+     * @param canvas the canvas for drawing
+     */
+    private void drawFlingStrip(Canvas canvas) {
+        int itemHeight = getItemHeight();
+        int margin = STRIP_MARGIN_ITEMS * itemHeight;
+        int translation = mStripItemShift * itemHeight + mScrollingOffset;
+        if (!mStripValid || Math.abs(translation) > margin) {
+            captureStrip(itemHeight, margin);
+            translation = mScrollingOffset;
+        }
+        canvas.drawBitmap(mStripBitmap, 0, translation - margin, null);
+    }
+
+    /**
+     * Captures rows around current item, with no scrolling offset, into the
+     * strip snapshot.
+     *
+     * @param itemHeight the item height
+     * @param margin     the strip margin above and below the wheel
+     */
+    private void captureStrip(int itemHeight, int margin) {
+        int width = getWidth();
+        int height = getHeight() + 2 * margin;
+        if (mStripBitmap == null || mStripBitmap.getWidth() != width
+                || mStripBitmap.getHeight() != height) {
+            mStripBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+            mStripCanvas = new Canvas(mStripBitmap);
+        } else {
+            mStripBitmap.eraseColor(Color.TRANSPARENT);
+        }
+        int centerTop = (getHeight() - itemHeight) / 2 + margin;
+        int rows = centerTop / itemHeight + 1;
+        drawTextRows(mStripCanvas, mCurrentItem - rows, mCurrentItem + rows,
+                centerTop - rows * itemHeight);
+        mStripItemShift = 0;
+        mStripValid = true;
+    }
+
+    /**
+     * Draws text rows.
+     *
+     * @param canvas the canvas for drawing
+     * @param first  the first item index
+     * @param last   the last item index
+     * @param top    the top of the first item
+     */
+    private void drawTextRows(Canvas canvas, int first, int last, int top) {
+        int itemHeight = getItemHeight();
+        int count = mViewAdapter.getItemsCount();
+        float centerX = getWidth() / 2f;
+        for (int i = first; i <= last; i++) {
+            int adapterIndex = mTextRenderer.getAdapterIndex(i, count, mIsCyclic);
+            if (adapterIndex >= 0 && (mLabelAtlas == null || !mLabelAtlas.draw(canvas,
+                    mTextRenderer, adapterIndex, centerX, top, OPAQUE))) {
+                mTextRenderer.drawLabel(canvas, adapterIndex, centerX, top);
+            }
+            top += itemHeight;
+        }
+        prefetchAtlasLabels(first, last);
+    }
+
+    /**
+     * Adds labels of the rows next to the drawn ones to the label atlas when
+     * the atlas changed in this frame anyway. Rows scrolled in later are then
+     * drawn from the atlas without uploading it again for each new label.
+     *
+     * @param first the first drawn item index
+     * @param last  the last drawn item index
+     */
+    private void prefetchAtlasLabels(int first, int last) {
+        if (mLabelAtlas == null || !mLabelAtlas.isWrittenInFrame()) {
+            return;
+        }
+        int count = mViewAdapter.getItemsCount();
+        for (int i = 1; i <= mVisibleItems; i++) {
+            int before = mTextRenderer.getAdapterIndex(first - i, count, mIsCyclic);
+            if (before >= 0) {
+                mLabelAtlas.prefetch(mTextRenderer, before);
+            }
+            int after = mTextRenderer.getAdapterIndex(last + i, count, mIsCyclic);
+            if (after >= 0) {
+                mLabelAtlas.prefetch(mTextRenderer, after);
+            }
+        }
     }
 
     /**
@@ -695,11 +1817,7 @@ public class WheelView extends View {
                 pos++;
                 count--;
             }
-            // fix position by rotating
-            while (pos < 0) {
-                pos += itemCount;
-            }
-            pos %= itemCount;
+            // setCurrentItem() rotates the position and counts the turn
         } else {
             //
             if (pos < 0) {
@@ -718,9 +1836,12 @@ public class WheelView extends View {
         }
 
         int offset = mScrollingOffset;
+        if (mStripValid) {
+            mStripItemShift += count;
+        }
 
         if (pos != mCurrentItem) {
-            setCurrentItem(pos, false);
+            setCurrentItem(pos, false, true);
         } else {
             invalidate();
         }
@@ -744,7 +1865,8 @@ public class WheelView extends View {
     }
 
     /**
-     * Calculates range for wheel items.
+     * Calculates range for wheel items. The returned range is reused by
+     * the next call.
      *
      * @return the items range
      */
@@ -771,7 +1893,8 @@ public class WheelView extends View {
             first -= emptyItems;
             count += Math.asin(emptyItems);
         }
-        return new ItemsRange(first, count);
+        mItemsRange.set(first, count);
+        return mItemsRange;
     }
 
     /**
@@ -790,6 +1913,8 @@ public class WheelView extends View {
             createItemsLayout();
             updated = true;
         }
+        mKeptItemsStart = 0;
+        mKeptItemsCount = mItemsLayout.getChildCount();
 
         if (!updated) {
             if (range == null) {
@@ -805,6 +1930,7 @@ public class WheelView extends View {
                     break;
                 }
                 mFirstItem = i;
+                mKeptItemsStart++;
             }
         } else {
             mFirstItem = range.getFirst();
@@ -827,20 +1953,90 @@ public class WheelView extends View {
      * sizes.
      */
     private void updateView() {
+        if (isTextDrawMode()) {
+            if (mCurrentItemListener != null
+                    && (!mCoalesceEvents || mReportedItem != mCurrentItem)) {
+                mReportedItem = mCurrentItem;
+                mCurrentItemListener.onCurrentItem(mCurrentItem);
+            }
+            return;
+        }
 
-        if (rebuildItems()) {
-            calculateLayoutWidth(getWidth(), MeasureSpec.EXACTLY);
+        WheelMetrics metrics = mMetrics;
+        long start = metrics != null ? System.nanoTime() : 0;
+        boolean rebuilt = rebuildItems();
+        if (metrics != null) {
+            long end = System.nanoTime();
+            metrics.addRebuildItemsTime(end - start);
+            start = end;
+        }
+        if (rebuilt) {
+            if (isMeasureCacheValid()
+                    && mItemsLayout.getMeasuredWidth() == getWidth() - 2 * PADDING) {
+                measureNewItems();
+            } else {
+                calculateLayoutWidth(getWidth(), MeasureSpec.EXACTLY);
+            }
+            if (metrics != null) {
+                metrics.addLayoutWidthTime(System.nanoTime() - start);
+            }
             layout(getWidth(), getHeight());
         }
 
         if (mCurrentItemListener != null) {
             int viewPosition = mCurrentItem - mFirstItem;
-            mCurrentItemListener.onCurrentItemViewPosition(viewPosition,
-                    mItemsLayout.getChildAt(viewPosition), mItemsLayout);
-            mCurrentItemListener.onCurrentItem(mCurrentItem);
+            View itemView = mItemsLayout.getChildAt(viewPosition);
+            if (!mCoalesceEvents || rebuilt || mReportedItem != mCurrentItem
+                    || mReportedItemView != itemView) {
+                mReportedItem = mCurrentItem;
+                mReportedItemView = itemView;
+                mCurrentItemListener.onCurrentItemViewPosition(viewPosition,
+                        itemView, mItemsLayout);
+                mCurrentItemListener.onCurrentItem(mCurrentItem);
+            }
         }
     }
 
+    /**
+     * Measures item views added by the last rebuild with the spec the items
+     * layout measured them before, then measures the items layout again with
+     * its cached spec, so it lays out the moved rows. Kept item views hit
+     * their own measure cache.
+     */
+    private void measureNewItems() {
+        int widthSpec = MeasureSpec.makeMeasureSpec(mItemsLayout.getMeasuredWidth(),
+                MeasureSpec.EXACTLY);
+        int heightSpec = MeasureSpec.makeMeasureSpec(0, MeasureSpec.UNSPECIFIED);
+        int horizontalPadding = mItemsLayout.getPaddingLeft() + mItemsLayout.getPaddingRight();
+        int verticalPadding = mItemsLayout.getPaddingTop() + mItemsLayout.getPaddingBottom();
+        int keptEnd = mKeptItemsStart + mKeptItemsCount;
+        for (int i = 0; i < mItemsLayout.getChildCount(); i++) {
+            if (i >= mKeptItemsStart && i < keptEnd) {
+                continue;
+            }
+            View child = mItemsLayout.getChildAt(i);
+            LinearLayout.LayoutParams params = (LinearLayout.LayoutParams) child.getLayoutParams();
+            child.measure(ViewGroup.getChildMeasureSpec(widthSpec, horizontalPadding
+                            + params.leftMargin + params.rightMargin, params.width),
+                    ViewGroup.getChildMeasureSpec(heightSpec, verticalPadding
+                            + params.topMargin + params.bottomMargin, params.height));
+        }
+        // the frame of the items layout does not change, only a measure pass
+        // makes its next layout() position the rows again
+        mItemsLayout.forceLayout();
+        mItemsLayout.measure(widthSpec, heightSpec);
+    }
+
+    /**
+     * Gets layout of item views, null in text drawing mode until an item
+     * view is needed. For tests.
+     *
+     * @return the items layout
+     */
+    LinearLayout getItemsLayout() {
+        return mItemsLayout;
+    }
+
     /**
      * Creates item layouts if necessary.
      */
@@ -848,6 +2044,8 @@ public class WheelView extends View {
         if (mItemsLayout == null) {
             mItemsLayout = new LinearLayout(getContext());
             mItemsLayout.setOrientation(LinearLayout.VERTICAL);
+            mItemsLayout.setLayoutParams(new LayoutParams(LayoutParams.WRAP_CONTENT,
+                    LayoutParams.WRAP_CONTENT));
         }
     }
 
@@ -857,7 +2055,7 @@ public class WheelView extends View {
     private void buildViewForMeasuring() {
         // clear all items
         if (mItemsLayout != null) {
-            mRecycle.recycleItems(mItemsLayout, mFirstItem, new ItemsRange());
+            mRecycle.recycleItems(mItemsLayout, mFirstItem, mEmptyRange);
         } else {
             createItemsLayout();
         }
@@ -911,21 +2109,44 @@ public class WheelView extends View {
      * @return item view or empty view if index is out of bounds
      */
     private View getItemView(int index) {
+        return getItemView(index, null);
+    }
+
+    /**
+     * Returns view for specified item.
+     *
+     * @param index       the item index
+     * @param currentView the view to rebind if it has the right view type, may be null
+     * @return item view or empty view if index is out of bounds
+     */
+    private View getItemView(int index, View currentView) {
         if (mViewAdapter == null || mViewAdapter.getItemsCount() == 0) {
             return null;
         }
         int count = mViewAdapter.getItemsCount();
+        int currentType = currentView != null
+                ? mRecycle.getViewType(currentView) : WheelRecycle.VIEW_TYPE_UNKNOWN;
         if (!isValidItemIndex(index)) {
-            return mViewAdapter
-                    .getEmptyItem(mRecycle.getEmptyItem(), mItemsLayout);
-        } else {
-            while (index < 0) {
-                index = count + index;
+            View convertView = currentType == WheelRecycle.VIEW_TYPE_EMPTY
+                    ? currentView : mRecycle.getEmptyItem();
+            View view = mViewAdapter.getEmptyItem(convertView, mItemsLayout);
+            if (mMetrics != null) {
+                mMetrics.onBind(true);
             }
+            mRecycle.setViewType(view, WheelRecycle.VIEW_TYPE_EMPTY);
+            return view;
         }
 
-        index %= count;
-        return mViewAdapter.getItem(index, mRecycle.getItem(), mItemsLayout);
+        index = floorMod(index, count);
+        int viewType = mViewAdapter instanceof WheelViewTypeAdapter
+                ? ((WheelViewTypeAdapter) mViewAdapter).getItemViewType(index) : 0;
+        View convertView = currentType == viewType ? currentView : mRecycle.getItem(viewType);
+        View view = mViewAdapter.getItem(index, convertView, mItemsLayout);
+        if (mMetrics != null) {
+            mMetrics.onBind(false);
+        }
+        mRecycle.setViewType(view, viewType);
+        return view;
     }
 
     /**
@@ -942,6 +2163,8 @@ public class WheelView extends View {
      */
     public void setCurrentItemListener(CurrentItemListener listener) {
         mCurrentItemListener = listener;
+        mReportedItem = -1;
+        mReportedItemView = null;
     }
 
 }
@@ -0,0 +1,219 @@
+/*
+ *  Android Wheel Control.
+ *  https://code.google.com/p/android-wheel/
+ *  Copyright 2011 Yuri Kanivets
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.basic.commonview.datePicker;
+
+import android.view.View;
+
+import java.util.Arrays;
+
+/**
+ * Pool of recycled wheel item views. Views are pooled per view type, each
+ * pool keeps at most {@link #getMaxViewsPerType()} views and evicts the oldest
+ * one when full.
+ * A pool may be shared by several wheels whose adapters create compatible
+ * views for the same view type, see {@link WheelView#setViewPool(WheelViewPool)}.
+ * Must be used from the main thread.
+ */
+public class WheelViewPool {
+    /**
+     * View type of empty items.
+     */
+    public static final int VIEW_TYPE_EMPTY = -1;
+
+    /**
+     * Default count of cached views per view type.
+     */
+    public static final int DEFAULT_MAX_VIEWS_PER_TYPE = 8;
+
+    // Cached items, indexed by view type
+    private ViewPool[] mItems = new ViewPool[0];
+
+    // Cached empty items
+    private ViewPool mEmptyItems;
+
+    // Max count of cached views per type
+    private int mMaxViewsPerType;
+
+    /**
+     * Constructor.
+     */
+    public WheelViewPool() {
+        this(DEFAULT_MAX_VIEWS_PER_TYPE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxViewsPerType the max count of cached views per view type
+     */
+    public WheelViewPool(int maxViewsPerType) {
+        mMaxViewsPerType = Math.max(1, maxViewsPerType);
+    }
+
+    /**
+     * Gets max count of cached views per view type.
+     *
+     * @return the max count of cached views
+     */
+    public int getMaxViewsPerType() {
+        return mMaxViewsPerType;
+    }
+
+    /**
+     * Sets max count of cached views per view type. Extra views are evicted.
+     *
+     * @param maxViewsPerType the max count, at least 1
+     */
+    public void setMaxViewsPerType(int maxViewsPerType) {
+        mMaxViewsPerType = Math.max(1, maxViewsPerType);
+        for (ViewPool pool : mItems) {
+            if (pool != null) {
+                pool.setCapacity(mMaxViewsPerType);
+            }
+        }
+        if (mEmptyItems != null) {
+            mEmptyItems.setCapacity(mMaxViewsPerType);
+        }
+    }
+
+    /**
+     * Allocates pools for view types 0 to viewTypeCount - 1, so recycling
+     * views of an adapter does not grow the pool table. Pools of other view
+     * types are kept, the pool may be shared.
+     *
+     * @param viewTypeCount the count of view types of an adapter
+     */
+    public void ensureViewTypeCount(int viewTypeCount) {
+        if (viewTypeCount > mItems.length) {
+            mItems = Arrays.copyOf(mItems, viewTypeCount);
+        }
+        for (int i = 0; i < viewTypeCount; i++) {
+            if (mItems[i] == null) {
+                mItems[i] = new ViewPool(mMaxViewsPerType);
+            }
+        }
+    }
+
+    /**
+     * Takes a cached view of the specified type.
+     *
+     * @param viewType the view type or {@link #VIEW_TYPE_EMPTY}
+     * @return the cached view or null
+     */
+    public View get(int viewType) {
+        if (viewType == VIEW_TYPE_EMPTY) {
+            return mEmptyItems != null ? mEmptyItems.pop() : null;
+        }
+        if (viewType >= 0 && viewType < mItems.length && mItems[viewType] != null) {
+            return mItems[viewType].pop();
+        }
+        return null;
+    }
+
+    /**
+     * Puts view to the pool of its type.
+     *
+     * @param view     the view without parent
+     * @param viewType the view type or {@link #VIEW_TYPE_EMPTY}
+     */
+    public void put(View view, int viewType) {
+        if (viewType == VIEW_TYPE_EMPTY) {
+            if (mEmptyItems == null) {
+                mEmptyItems = new ViewPool(mMaxViewsPerType);
+            }
+            mEmptyItems.push(view);
+        } else if (viewType >= 0) {
+            if (viewType >= mItems.length) {
+                mItems = Arrays.copyOf(mItems, viewType + 1);
+            }
+            if (mItems[viewType] == null) {
+                mItems[viewType] = new ViewPool(mMaxViewsPerType);
+            }
+            mItems[viewType].push(view);
+        }
+    }
+
+    /**
+     * Clears all views.
+     */
+    public void clear() {
+        for (ViewPool pool : mItems) {
+            if (pool != null) {
+                pool.clear();
+            }
+        }
+        if (mEmptyItems != null) {
+            mEmptyItems.clear();
+        }
+    }
+
+    /**
+     * Bounded array-backed deque of views. The most recently recycled view is
+     * reused first, the oldest one is evicted when the pool is full.
+     */
+    private static final class ViewPool {
+        private View[] mViews;
+        private int mHead;
+        private int mSize;
+
+        ViewPool(int capacity) {
+            mViews = new View[capacity];
+        }
+
+        void push(View view) {
+            if (mSize == mViews.length) {
+                // evict the oldest view
+                mViews[mHead] = null;
+                mHead = (mHead + 1) % mViews.length;
+                mSize--;
+            }
+            mViews[(mHead + mSize) % mViews.length] = view;
+            mSize++;
+        }
+
+        View pop() {
+            if (mSize == 0) {
+                return null;
+            }
+            int last = (mHead + mSize - 1) % mViews.length;
+            View view = mViews[last];
+            mViews[last] = null;
+            mSize--;
+            return view;
+        }
+
+        void clear() {
+            Arrays.fill(mViews, null);
+            mHead = 0;
+            mSize = 0;
+        }
+
+        void setCapacity(int capacity) {
+            View[] views = new View[capacity];
+            int kept = Math.min(mSize, capacity);
+            // keep the newest views
+            for (int i = 0; i < kept; i++) {
+                views[i] = mViews[(mHead + mSize - kept + i) % mViews.length];
+            }
+            mViews = views;
+            mHead = 0;
+            mSize = kept;
+        }
+    }
+}
@@ -26,7 +26,7 @@ import java.util.List;
 /**
  * Abstract Wheel adapter.
  */
-public abstract class AbstractWheelAdapter implements WheelViewAdapter {
+public abstract class AbstractWheelAdapter implements WheelViewTypeAdapter {
     // Observers
     private List<DataSetObserver> mDataSetObservers;
 
@@ -35,6 +35,16 @@ public abstract class AbstractWheelAdapter implements WheelViewAdapter {
         return null;
     }
 
+    @Override
+    public int getItemViewType(int index) {
+        return 0;
+    }
+
+    @Override
+    public int getViewTypeCount() {
+        return 1;
+    }
+
     @Override
     public void registerDataSetObserver(DataSetObserver observer) {
         if (mDataSetObservers == null) {
@@ -61,6 +71,75 @@ public abstract class AbstractWheelAdapter implements WheelViewAdapter {
         }
     }
 
+    /**
+     * Notifies observers that items changed their content.
+     *
+     * @param start the first changed item
+     * @param count the count of changed items
+     */
+    protected void notifyItemRangeChanged(int start, int count) {
+        if (mDataSetObservers != null) {
+            for (DataSetObserver observer : mDataSetObservers) {
+                if (observer instanceof WheelDataObserver) {
+                    ((WheelDataObserver) observer).onItemRangeChanged(start, count);
+                } else {
+                    observer.onChanged();
+                }
+            }
+        }
+    }
+
+    /**
+     * Notifies observers that items were inserted.
+     *
+     * @param start the position of the first inserted item
+     * @param count the count of inserted items
+     */
+    protected void notifyItemRangeInserted(int start, int count) {
+        if (mDataSetObservers != null) {
+            for (DataSetObserver observer : mDataSetObservers) {
+                if (observer instanceof WheelDataObserver) {
+                    ((WheelDataObserver) observer).onItemRangeInserted(start, count);
+                } else {
+                    observer.onChanged();
+                }
+            }
+        }
+    }
+
+    /**
+     * Notifies observers that items were removed.
+     *
+     * @param start the position of the first removed item
+     * @param count the count of removed items
+     */
+    protected void notifyItemRangeRemoved(int start, int count) {
+        if (mDataSetObservers != null) {
+            for (DataSetObserver observer : mDataSetObservers) {
+                if (observer instanceof WheelDataObserver) {
+                    ((WheelDataObserver) observer).onItemRangeRemoved(start, count);
+                } else {
+                    observer.onChanged();
+                }
+            }
+        }
+    }
+
+    /**
+     * Notifies observers that the item style changed.
+     */
+    protected void notifyStyleChanged() {
+        if (mDataSetObservers != null) {
+            for (DataSetObserver observer : mDataSetObservers) {
+                if (observer instanceof WheelDataObserver) {
+                    ((WheelDataObserver) observer).onStyleChanged();
+                } else {
+                    observer.onChanged();
+                }
+            }
+        }
+    }
+
     /**
      * Notifies observers about invalidating data.
      */
@@ -17,17 +17,22 @@ package com.basic.commonview.datePicker.adapter;
 
 import android.content.Context;
 import android.graphics.Typeface;
+import android.text.TextPaint;
 import android.util.Log;
+import android.util.TypedValue;
 import android.view.Gravity;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.TextView;
 
+import com.basic.commonview.R;
+
 /**
  * Abstract wheel adapter provides common functionality for adapters.
  */
-public abstract class AbstractWheelTextAdapter extends AbstractWheelAdapter {
+public abstract class AbstractWheelTextAdapter extends AbstractWheelAdapter
+        implements WheelTextAdapter {
 
     /**
      * Text view resource. Used as a default view for adapter.
@@ -54,6 +59,13 @@ public abstract class AbstractWheelTextAdapter extends AbstractWheelAdapter {
     // Empty items resources
     protected int mEmptyItemResourceId;
 
+    // Count of items around the current one whose labels are laid out in background
+    private int mPrecomputeRadius;
+
+    // Style generation of this adapter, item views are tagged with the token
+    // they were configured with
+    private Object mStyleToken = new Object();
+
     /**
      * Constructor.
      *
@@ -154,6 +166,55 @@ public abstract class AbstractWheelTextAdapter extends AbstractWheelAdapter {
      */
     protected abstract CharSequence getItemText(int index);
 
+    /**
+     * Sets text of specified item to text view without creating a
+     * CharSequence. The default implementation does nothing.
+     *
+     * @param view  the text view to bind
+     * @param index the item index
+     * @return true if text is set, false to set text of {@link #getItemText(int)}
+     */
+    protected boolean bindItemText(TextView view, int index) {
+        return false;
+    }
+
+    @Override
+    public CharSequence getItemLabel(int index) {
+        if (index >= 0 && index < getItemsCount()) {
+            return getItemText(index);
+        }
+        return null;
+    }
+
+    @Override
+    public void configureTextPaint(TextPaint paint) {
+        paint.setColor(getDefaultTextColor());
+        paint.setTextSize(TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_SP,
+                getDefaultTextSize(), mContext.getResources().getDisplayMetrics()));
+        paint.setTypeface(Typeface.create(Typeface.SANS_SERIF, Typeface.BOLD));
+    }
+
+    @Override
+    public int getItemVerticalPadding() {
+        return 0;
+    }
+
+    @Override
+    public int getPrecomputeRadius() {
+        return mPrecomputeRadius;
+    }
+
+    /**
+     * Sets count of items on each side of the current item whose labels are
+     * laid out in background. Takes effect when the wheel is given the adapter
+     * or moves to another item.
+     *
+     * @param precomputeRadius the count of items, 0 to turn it off
+     */
+    public void setPrecomputeRadius(int precomputeRadius) {
+        mPrecomputeRadius = Math.max(0, precomputeRadius);
+    }
+
     @Override
     public View getItem(int index, View convertView, ViewGroup parent) {
         if (index >= 0 && index < getItemsCount()) {
@@ -162,13 +223,15 @@ public abstract class AbstractWheelTextAdapter extends AbstractWheelAdapter {
             }
             TextView textView = getTextView(convertView, mItemTextResourceId);
             if (textView != null) {
-                CharSequence text = getItemText(index);
-                if (text == null) {
-                    text = "";
+                if (!bindItemText(textView, index)) {
+                    CharSequence text = getItemText(index);
+                    if (text == null) {
+                        text = "";
+                    }
+                    textView.setText(text);
                 }
-                textView.setText(text);
                 if (mItemResourceId == TEXT_VIEW_ITEM_RESOURCE) {
-                    configureTextView(textView);
+                    applyStyle(textView);
                 }
             }
             return convertView;
@@ -183,14 +246,51 @@ public abstract class AbstractWheelTextAdapter extends AbstractWheelAdapter {
         }
         if (mEmptyItemResourceId == TEXT_VIEW_ITEM_RESOURCE
                 && convertView instanceof TextView) {
-            configureTextView((TextView) convertView);
+            applyStyle((TextView) convertView);
         }
 
         return convertView;
     }
 
     /**
-     * Configures text view. Is called for the TEXT_VIEW_ITEM_RESOURCE views.
+     * Creates an unbound item view from the item resource. Does not touch the
+     * adapter data, so it may be called on a background thread to inflate
+     * layouts whose views do not need a Looper.
+     *
+     * @param parent the parent used to generate layout params
+     * @return the item view or null if item resource is not set
+     */
+    public View createItemView(ViewGroup parent) {
+        return getView(mItemResourceId, parent);
+    }
+
+    /**
+     * Renews the item style, so every item view is configured again on its
+     * next bind, and notifies observers. Call it when a value used by
+     * {@link #configureTextView(TextView)} or
+     * {@link #configureTextPaint(TextPaint)} changes.
+     */
+    protected void invalidateItemStyle() {
+        mStyleToken = new Object();
+        notifyStyleChanged();
+    }
+
+    /**
+     * Configures text view unless it was configured with the current style of
+     * this adapter. Views in a shared pool may come from other adapters.
+     *
+     * @param view the text view
+     */
+    private void applyStyle(TextView view) {
+        if (view.getTag(R.id.wheel_item_style) != mStyleToken) {
+            configureTextView(view);
+            view.setTag(R.id.wheel_item_style, mStyleToken);
+        }
+    }
+
+    /**
+     * Configures text view. Is called for the TEXT_VIEW_ITEM_RESOURCE views
+     * once per style, see {@link #invalidateItemStyle()}.
      *
      * @param view the text view to be configured
      */
@@ -203,7 +303,8 @@ public abstract class AbstractWheelTextAdapter extends AbstractWheelAdapter {
     }
 
     /**
-     * Loads a text view from view.
+     * Loads a text view from view. A text view found by id is cached in the
+     * item view, so later binds of the recycled view do not search for it.
      *
      * @param view         the text view or layout containing it
      * @param textResource the text resource Id in layout
@@ -215,7 +316,13 @@ public abstract class AbstractWheelTextAdapter extends AbstractWheelAdapter {
             if (textResource == NO_RESOURCE && view instanceof TextView) {
                 text = (TextView) view;
             } else if (textResource != NO_RESOURCE) {
-                text = (TextView) view.findViewById(textResource);
+                Object tag = view.getTag(R.id.wheel_item_holder);
+                if (tag instanceof TextView && ((TextView) tag).getId() == textResource) {
+                    text = (TextView) tag;
+                } else {
+                    text = (TextView) view.findViewById(textResource);
+                    view.setTag(R.id.wheel_item_holder, text);
+                }
             }
         } catch (ClassCastException e) {
             Log.e("AbstractWheelAdapter",
@@ -17,6 +17,8 @@ package com.basic.commonview.datePicker.adapter;
 
 import android.content.Context;
 import android.graphics.Typeface;
+import android.text.TextPaint;
+import android.text.TextUtils;
 import android.widget.TextView;
 
 /**
@@ -33,6 +35,9 @@ public class ArrayWheelAdapter<T> extends AbstractWheelTextAdapter {
     private int mDefaultTextColor;
     private static final int VIEW_PADDING = 8;
 
+    // Max size of the diff table, larger changes replace the whole middle part
+    private static final int MAX_DIFF_CELLS = 1 << 20;
+
     /**
      * Constructor.
      *
@@ -48,6 +53,150 @@ public class ArrayWheelAdapter<T> extends AbstractWheelTextAdapter {
         mDefaultTextSize = textSize;
     }
 
+    /**
+     * Sets items. Old and new items are compared by label, observers are told
+     * only about labels that changed and items that were inserted or removed,
+     * so the wheel keeps its current item on the same item and rebinds only
+     * the affected rows.
+     *
+     * @param items the new items
+     */
+    public void setItems(T[] items) {
+        T[] oldItems = mItems;
+        mItems = items.clone();
+
+        // the common head and tail keep their labels and positions
+        int head = 0;
+        int maxHead = Math.min(oldItems.length, mItems.length);
+        while (head < maxHead && isSameLabel(oldItems[head], mItems[head])) {
+            head++;
+        }
+        int tail = 0;
+        int maxTail = maxHead - head;
+        while (tail < maxTail && isSameLabel(oldItems[oldItems.length - 1 - tail],
+                mItems[mItems.length - 1 - tail])) {
+            tail++;
+        }
+        int oldMiddle = oldItems.length - head - tail;
+        int newMiddle = mItems.length - head - tail;
+        if (oldMiddle == 0 && newMiddle == 0) {
+            return;
+        }
+
+        // edits of the middle parts as hunks: old position, removed and inserted counts
+        int[] hunks;
+        int hunkCount;
+        if ((long) (oldMiddle + 1) * (newMiddle + 1) > MAX_DIFF_CELLS) {
+            // too large to diff, the whole middle part is replaced
+            hunks = new int[] {head, oldMiddle, newMiddle};
+            hunkCount = 1;
+        } else {
+            hunks = new int[3 * (oldMiddle + newMiddle)];
+            hunkCount = diff(oldItems, head, oldMiddle, newMiddle, hunks);
+        }
+
+        // from the last hunk back, so positions of earlier hunks stay valid
+        for (int h = hunkCount - 1; h >= 0; h--) {
+            int position = hunks[3 * h];
+            int removed = hunks[3 * h + 1];
+            int inserted = hunks[3 * h + 2];
+            int changed = Math.min(removed, inserted);
+            if (changed > 0) {
+                notifyItemRangeChanged(position, changed);
+            }
+            if (inserted > removed) {
+                notifyItemRangeInserted(position + changed, inserted - removed);
+            } else if (removed > inserted) {
+                notifyItemRangeRemoved(position + changed, removed - inserted);
+            }
+        }
+    }
+
+    /**
+     * Finds edits turning the old middle part into the new one along the
+     * longest common subsequence of labels.
+     *
+     * @param oldItems  the old items
+     * @param start     the position of the middle parts
+     * @param oldCount  the count of old middle items
+     * @param newCount  the count of new middle items
+     * @param hunks     the array to fill with old position, removed and inserted counts
+     * @return the count of hunks
+     */
+    private int diff(T[] oldItems, int start, int oldCount, int newCount, int[] hunks) {
+        // lengths of common subsequences of old and new suffixes
+        int columns = newCount + 1;
+        int[] lengths = new int[(oldCount + 1) * columns];
+        for (int i = oldCount - 1; i >= 0; i--) {
+            for (int j = newCount - 1; j >= 0; j--) {
+                lengths[i * columns + j] = isSameLabel(oldItems[start + i], mItems[start + j])
+                        ? lengths[(i + 1) * columns + j + 1] + 1
+                        : Math.max(lengths[(i + 1) * columns + j], lengths[i * columns + j + 1]);
+            }
+        }
+
+        int hunkCount = 0;
+        int i = 0;
+        int j = 0;
+        while (i < oldCount || j < newCount) {
+            if (i < oldCount && j < newCount
+                    && isSameLabel(oldItems[start + i], mItems[start + j])) {
+                i++;
+                j++;
+                continue;
+            }
+            int position = start + i;
+            int removed = 0;
+            int inserted = 0;
+            while ((i < oldCount || j < newCount) && !(i < oldCount && j < newCount
+                    && isSameLabel(oldItems[start + i], mItems[start + j]))) {
+                if (j == newCount || (i < oldCount
+                        && lengths[(i + 1) * columns + j] >= lengths[i * columns + j + 1])) {
+                    i++;
+                    removed++;
+                } else {
+                    j++;
+                    inserted++;
+                }
+            }
+            hunks[3 * hunkCount] = position;
+            hunks[3 * hunkCount + 1] = removed;
+            hunks[3 * hunkCount + 2] = inserted;
+            hunkCount++;
+        }
+        return hunkCount;
+    }
+
+    /**
+     * Tests whether items have the same label.
+     *
+     * @param item1 the first item
+     * @param item2 the second item
+     * @return true if labels are equal
+     */
+    private boolean isSameLabel(T item1, T item2) {
+        if (item1 == item2) {
+            return true;
+        }
+        if (item1 == null || item2 == null) {
+            return false;
+        }
+        return item1.equals(item2) || TextUtils.equals(getLabel(item1), getLabel(item2));
+    }
+
+    /**
+     * Gets label of item.
+     *
+     * @param item the item
+     * @return the label
+     */
+    private CharSequence getLabel(T item) {
+        if (item instanceof CharSequence) {
+            return (CharSequence) item;
+        }
+        return item.toString();
+    }
+
     @Override
     protected float getDefaultTextSize() {
         return mDefaultTextSize;
@@ -61,11 +210,7 @@ public class ArrayWheelAdapter<T> extends AbstractWheelTextAdapter {
     @Override
     public CharSequence getItemText(int index) {
         if (index >= 0 && index < mItems.length) {
-            T item = mItems[index];
-            if (item instanceof CharSequence) {
-                return (CharSequence) item;
-            }
-            return item.toString();
+            return getLabel(mItems[index]);
         }
         return null;
     }
@@ -81,4 +226,15 @@ public class ArrayWheelAdapter<T> extends AbstractWheelTextAdapter {
         view.setPadding(0, VIEW_PADDING, 0, VIEW_PADDING);
         view.setTypeface(Typeface.SANS_SERIF, Typeface.NORMAL);
     }
+
+    @Override
+    public void configureTextPaint(TextPaint paint) {
+        super.configureTextPaint(paint);
+        paint.setTypeface(Typeface.create(Typeface.SANS_SERIF, Typeface.NORMAL));
+    }
+
+    @Override
+    public int getItemVerticalPadding() {
+        return VIEW_PADDING;
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ *  Copyright 2011 Yuri Kanivets
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.basic.commonview.datePicker.adapter;
+
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.basic.commonview.R;
+
+/**
+ * Wheel adapter binding item views through view holders. A holder is created
+ * once per item view and keeps references to its child views, so binding a
+ * recycled view walks no view tree.
+ *
+ * @param <VH> the view holder type
+ */
+public abstract class HolderWheelAdapter<VH extends HolderWheelAdapter.ViewHolder>
+        extends AbstractWheelAdapter {
+
+    /**
+     * Holder of an item view and its child views.
+     */
+    public static class ViewHolder {
+        /**
+         * The item view.
+         */
+        public final View itemView;
+
+        // Adapter and view type the holder was created by
+        private HolderWheelAdapter<?> mAdapter;
+        private int mViewType;
+
+        /**
+         * Constructor.
+         *
+         * @param itemView the item view
+         */
+        public ViewHolder(View itemView) {
+            if (itemView == null) {
+                throw new IllegalArgumentException("itemView may not be null");
+            }
+            this.itemView = itemView;
+        }
+    }
+
+    /**
+     * Creates view holder with a new item view.
+     *
+     * @param parent   the parent used to generate layout params
+     * @param viewType the view type, see {@link #getItemViewType(int)}
+     * @return the view holder
+     */
+    protected abstract VH onCreateViewHolder(ViewGroup parent, int viewType);
+
+    /**
+     * Binds item to view holder.
+     *
+     * @param holder the view holder
+     * @param index  the item index
+     */
+    protected abstract void onBindViewHolder(VH holder, int index);
+
+    @Override
+    public View getItem(int index, View convertView, ViewGroup parent) {
+        if (index < 0 || index >= getItemsCount()) {
+            return null;
+        }
+        int viewType = getItemViewType(index);
+        VH holder = getHolder(convertView, viewType);
+        if (holder == null) {
+            holder = onCreateViewHolder(parent, viewType);
+            holder.mAdapter = this;
+            holder.mViewType = viewType;
+            holder.itemView.setTag(R.id.wheel_item_holder, holder);
+        }
+        onBindViewHolder(holder, index);
+        return holder.itemView;
+    }
+
+    /**
+     * Gets holder of recycled view if this adapter created it for the view type.
+     * Views of a shared pool may come from other adapters.
+     *
+     * @param convertView the recycled view, may be null
+     * @param viewType    the view type
+     * @return the holder or null
+     */
+    @SuppressWarnings("unchecked")
+    private VH getHolder(View convertView, int viewType) {
+        if (convertView == null) {
+            return null;
+        }
+        Object tag = convertView.getTag(R.id.wheel_item_holder);
+        if (tag instanceof ViewHolder) {
+            ViewHolder holder = (ViewHolder) tag;
+            if (holder.mAdapter == this && holder.mViewType == viewType) {
+                return (VH) holder;
+            }
+        }
+        return null;
+    }
+}
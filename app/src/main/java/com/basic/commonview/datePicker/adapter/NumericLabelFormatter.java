@@ -0,0 +1,182 @@
+/*
+ *  Copyright 2011 Yuri Kanivets
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.basic.commonview.datePicker.adapter;
+
+import android.widget.TextView;
+
+import com.basic.commonview.R;
+
+/**
+ * Writes numeric labels, zero padded and with optional prefix and suffix,
+ * into reusable char buffers, so binding a label creates no String.
+ * Must be used from the main thread.
+ */
+public final class NumericLabelFormatter {
+
+    // Max count of digits in a long
+    private static final int MAX_DIGITS = 19;
+
+    private String mPrefix;
+    private String mSuffix;
+    private int mMinDigits;
+
+    // Shared label for canvas text drawing
+    private LabelBuffer mLabel;
+
+    /**
+     * Constructor.
+     *
+     * @param minDigits the min count of digits, shorter numbers are zero padded
+     * @param prefix    the text before number, may be null
+     * @param suffix    the text after number, may be null
+     */
+    public NumericLabelFormatter(int minDigits, String prefix, String suffix) {
+        mMinDigits = Math.max(1, Math.min(minDigits, MAX_DIGITS));
+        mPrefix = prefix != null ? prefix : "";
+        mSuffix = suffix != null ? suffix : "";
+        mLabel = new LabelBuffer(new char[getMaxLength()]);
+    }
+
+    /**
+     * Creates formatter from a string resource pattern with a single %s or %d
+     * placeholder for the number.
+     *
+     * @param minDigits the min count of digits
+     * @param pattern   the pattern, e.g. "%s秒"
+     * @return the formatter
+     */
+    public static NumericLabelFormatter fromPattern(int minDigits, String pattern) {
+        int at = pattern.indexOf("%s");
+        if (at < 0) {
+            at = pattern.indexOf("%d");
+        }
+        if (at < 0) {
+            return new NumericLabelFormatter(minDigits, pattern, null);
+        }
+        return new NumericLabelFormatter(minDigits, pattern.substring(0, at), pattern.substring(at + 2));
+    }
+
+    /**
+     * Gets max length of a label.
+     *
+     * @return the max label length
+     */
+    public int getMaxLength() {
+        return mPrefix.length() + 1 + MAX_DIGITS + mSuffix.length();
+    }
+
+    /**
+     * Writes label of value to buffer.
+     *
+     * @param value  the value
+     * @param buffer the buffer of at least {@link #getMaxLength()} chars
+     * @return the label length
+     */
+    public int format(long value, char[] buffer) {
+        int length = mPrefix.length();
+        mPrefix.getChars(0, length, buffer, 0);
+        if (value < 0) {
+            buffer[length++] = '-';
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest != 0; rest /= 10) {
+            digits++;
+        }
+        int end = length + Math.max(digits, mMinDigits);
+        for (int i = end - 1; i >= length; i--) {
+            // remainder is negative for negative values
+            buffer[i] = (char) ('0' + Math.abs(value % 10));
+            value /= 10;
+        }
+        mSuffix.getChars(0, mSuffix.length(), buffer, end);
+        return end + mSuffix.length();
+    }
+
+    /**
+     * Gets label of value in a shared buffer. The label is valid until the
+     * next call, copy it to keep it.
+     *
+     * @param value the value
+     * @return the shared label
+     */
+    public CharSequence getLabel(long value) {
+        mLabel.mLength = format(value, mLabel.mChars);
+        return mLabel;
+    }
+
+    /**
+     * Sets label of value to text view. The chars are kept in a buffer owned
+     * by the view, so rebinding the view does not allocate.
+     *
+     * @param view  the text view
+     * @param value the value
+     */
+    public void bindText(TextView view, long value) {
+        Object tag = view.getTag(R.id.wheel_item_text_buffer);
+        char[] buffer;
+        if (tag instanceof char[] && ((char[]) tag).length >= getMaxLength()) {
+            buffer = (char[]) tag;
+        } else {
+            buffer = new char[getMaxLength()];
+            view.setTag(R.id.wheel_item_text_buffer, buffer);
+        }
+        // text view refers to the buffer, it is only rewritten on the next bind
+        view.setText(buffer, 0, format(value, buffer));
+    }
+
+    /**
+     * Formats value to a new String.
+     *
+     * @param value the value
+     * @return the label
+     */
+    public String toString(long value) {
+        char[] buffer = new char[getMaxLength()];
+        return new String(buffer, 0, format(value, buffer));
+    }
+
+    /**
+     * Reusable label over a char buffer.
+     */
+    private static final class LabelBuffer implements CharSequence {
+        private final char[] mChars;
+        private int mLength;
+
+        LabelBuffer(char[] chars) {
+            mChars = chars;
+        }
+
+        @Override
+        public int length() {
+            return mLength;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return mChars[index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new String(mChars, start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(mChars, 0, mLength);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *  Copyright 2011 Yuri Kanivets
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.basic.commonview.datePicker.adapter;
+
+import android.content.Context;
+import android.widget.TextView;
+
+/**
+ * Numeric range wheel adapter whose labels are written into reusable char
+ * buffers by a {@link NumericLabelFormatter}. Binding an item view or drawing
+ * an item on canvas creates no String.
+ */
+public class NumericWheelAdapter extends RangeWheelAdapter {
+
+    // Label formatter
+    private NumericLabelFormatter mLabelFormatter;
+
+    /**
+     * Constructor.
+     *
+     * @param context        the current context
+     * @param start          the first value
+     * @param end            the last value, included if it is on a step
+     * @param step           the step between values, greater than 0
+     * @param labelFormatter the label formatter
+     * @param textColor      default text Color.
+     * @param textSize       default text size.
+     */
+    public NumericWheelAdapter(Context context, long start, long end, long step,
+            NumericLabelFormatter labelFormatter, int textColor, float textSize) {
+        super(context, start, end, step, null, textColor, textSize);
+        mLabelFormatter = labelFormatter;
+    }
+
+    /**
+     * Gets label formatter.
+     *
+     * @return the label formatter
+     */
+    public NumericLabelFormatter getLabelFormatter() {
+        return mLabelFormatter;
+    }
+
+    @Override
+    protected CharSequence getItemText(int index) {
+        return mLabelFormatter.toString(getValue(index));
+    }
+
+    @Override
+    protected boolean bindItemText(TextView view, int index) {
+        mLabelFormatter.bindText(view, getValue(index));
+        return true;
+    }
+
+    /**
+     * Returns label in a shared buffer, valid until the next call.
+     */
+    @Override
+    public CharSequence getItemLabel(int index) {
+        if (index >= 0 && index < getItemsCount()) {
+            return mLabelFormatter.getLabel(getValue(index));
+        }
+        return null;
+    }
+}
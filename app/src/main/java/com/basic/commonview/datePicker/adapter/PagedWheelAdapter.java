@@ -0,0 +1,406 @@
+/*
+ *  Copyright 2011 Yuri Kanivets
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.basic.commonview.datePicker.adapter;
+
+import android.content.Context;
+import android.os.AsyncTask;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.util.SparseArray;
+import android.util.SparseBooleanArray;
+import android.util.SparseIntArray;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Wheel adapter whose items are loaded by fixed-size pages from a slow source,
+ * e.g. a database or a file. Pages are loaded on a background executor when
+ * the wheel asks for their items, rows of pages still loading show a
+ * placeholder text. Loaded pages far from the rows the wheel binds are
+ * evicted, pages of those rows are always kept.
+ * When a page arrives only its items are reported as changed, so the wheel
+ * rebinds just the affected rows. Failed loads of bound pages are retried
+ * with growing delays.
+ * The adapter must be used from the main thread, only
+ * {@link #loadPage(int, int)} is called on the executor.
+ *
+ * @param <T> the item type
+ */
+public abstract class PagedWheelAdapter<T> extends AbstractWheelTextAdapter {
+    /**
+     * Default count of items per page.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    /**
+     * Default count of loaded pages kept in memory.
+     */
+    public static final int DEFAULT_MAX_PAGES = 5;
+
+    // Pages the wheel may need at once, two bound pages and a prefetched one
+    private static final int MIN_MAX_PAGES = 3;
+
+    // Neighbour pages requested besides the bound ones, one on each side
+    private static final int PREFETCH_PAGES = 2;
+
+    // Delay of the first retry of a failed page, doubled for each further failure
+    private static final long RETRY_DELAY = 500;
+    private static final int MAX_RETRY_SHIFT = 6;
+
+    private static final String TAG = "PagedWheelAdapter";
+
+    private final int mPageSize;
+    private final Executor mExecutor;
+    private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+
+    // Loaded pages, indexed by page number
+    private SparseArray<List<T>> mPages = new SparseArray<List<T>>();
+
+    // Pages being loaded
+    private SparseBooleanArray mLoadingPages = new SparseBooleanArray();
+
+    // Count of failed loads, indexed by page number
+    private SparseIntArray mFailures = new SparseIntArray();
+
+    private int mItemsCount;
+    private int mMaxPages = DEFAULT_MAX_PAGES;
+
+    // Pages of the rows bound in the last finished main thread pass and in
+    // the current one. A pass ends when the main thread gets to the posted
+    // end of pass, i.e. after the wheel bound all its rows.
+    private int mBoundFirstPage = -1;
+    private int mBoundLastPage = -1;
+    private int mPassFirstPage;
+    private int mPassLastPage;
+    private boolean mPassPending;
+    private final Runnable mEndPass = new Runnable() {
+        @Override
+        public void run() {
+            mPassPending = false;
+            mBoundFirstPage = mPassFirstPage;
+            mBoundLastPage = mPassLastPage;
+            trimPages(0);
+        }
+    };
+
+    // Incremented when loaded data become stale, results of older loads are dropped
+    private int mGeneration;
+
+    private CharSequence mPlaceholder = "";
+
+    private float mDefaultTextSize;
+    private int mDefaultTextColor;
+
+    /**
+     * Constructor. Pages are loaded on {@link AsyncTask#THREAD_POOL_EXECUTOR}.
+     *
+     * @param context    the current context
+     * @param itemsCount the count of items in source
+     * @param pageSize   the count of items per page
+     * @param textColor  default text Color.
+     * @param textSize   default text size.
+     */
+    protected PagedWheelAdapter(Context context, int itemsCount, int pageSize,
+            int textColor, float textSize) {
+        this(context, itemsCount, pageSize, AsyncTask.THREAD_POOL_EXECUTOR, textColor, textSize);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param context    the current context
+     * @param itemsCount the count of items in source
+     * @param pageSize   the count of items per page
+     * @param executor   the executor to load pages on
+     * @param textColor  default text Color.
+     * @param textSize   default text size.
+     */
+    protected PagedWheelAdapter(Context context, int itemsCount, int pageSize, Executor executor,
+            int textColor, float textSize) {
+        super(context);
+        mItemsCount = Math.max(0, itemsCount);
+        mPageSize = Math.max(1, pageSize);
+        mExecutor = executor;
+        mDefaultTextColor = textColor;
+        mDefaultTextSize = textSize;
+    }
+
+    /**
+     * Loads items of page. Is called on the executor thread.
+     *
+     * @param start the index of the first item
+     * @param count the count of items, the last page may be shorter
+     * @return the items, the list must not be modified later
+     */
+    protected abstract List<T> loadPage(int start, int count);
+
+    /**
+     * Returns text of loaded item. The default implementation uses toString().
+     *
+     * @param item the item, may be null
+     * @return the item text
+     */
+    protected CharSequence formatItem(T item) {
+        return item != null ? item.toString() : null;
+    }
+
+    /**
+     * Gets item if its page is loaded, requesting the page otherwise.
+     *
+     * @param index the item index
+     * @return the item or null if it is still loading
+     */
+    public T getLoadedItem(int index) {
+        if (index < 0 || index >= mItemsCount) {
+            return null;
+        }
+        int page = index / mPageSize;
+        onPageBound(page);
+        List<T> items = mPages.get(page);
+        if (items == null) {
+            requestPage(page);
+            // prepare the neighbour page the wheel is likely to scroll to
+            int offset = index % mPageSize;
+            requestPage(offset < mPageSize / 2 ? page - 1 : page + 1);
+            return null;
+        }
+        int offset = index - page * mPageSize;
+        return offset < items.size() ? items.get(offset) : null;
+    }
+
+    /**
+     * Sets text shown by rows of pages still loading.
+     *
+     * @param placeholder the placeholder text
+     */
+    public void setPlaceholder(CharSequence placeholder) {
+        mPlaceholder = placeholder;
+    }
+
+    /**
+     * Sets count of loaded pages kept in memory. Pages far from the bound
+     * rows are evicted first. The count is raised when the bound rows and
+     * their prefetched neighbours need more pages, so pages the wheel shows
+     * are never evicted and loaded again in a loop.
+     *
+     * @param maxPages the max count of pages, at least 3
+     */
+    public void setMaxPages(int maxPages) {
+        mMaxPages = Math.max(MIN_MAX_PAGES, maxPages);
+        trimPages(0);
+    }
+
+    /**
+     * Sets count of items, e.g. when the source changed. Drops all loaded pages.
+     *
+     * @param itemsCount the count of items in source
+     */
+    public void setItemsCount(int itemsCount) {
+        mItemsCount = Math.max(0, itemsCount);
+        refresh();
+    }
+
+    /**
+     * Drops all loaded pages, they are loaded again on demand.
+     */
+    public void refresh() {
+        mGeneration++;
+        mPages.clear();
+        mLoadingPages.clear();
+        mFailures.clear();
+        notifyDataChangedEvent();
+    }
+
+    @Override
+    public int getItemsCount() {
+        return mItemsCount;
+    }
+
+    @Override
+    protected CharSequence getItemText(int index) {
+        T item = getLoadedItem(index);
+        if (item == null && !isPageLoaded(index / mPageSize)) {
+            return mPlaceholder;
+        }
+        return formatItem(item);
+    }
+
+    @Override
+    protected float getDefaultTextSize() {
+        return mDefaultTextSize;
+    }
+
+    @Override
+    protected int getDefaultTextColor() {
+        return mDefaultTextColor;
+    }
+
+    /**
+     * Tests whether page is loaded.
+     *
+     * @param page the page number
+     * @return true if page is in memory
+     */
+    private boolean isPageLoaded(int page) {
+        return mPages.get(page) != null;
+    }
+
+    /**
+     * Tests whether page holds rows the wheel binds.
+     *
+     * @param page the page number
+     * @return true if page is bound in the last or the current pass
+     */
+    private boolean isPageBound(int page) {
+        return page >= mBoundFirstPage && page <= mBoundLastPage
+                || mPassPending && page >= mPassFirstPage && page <= mPassLastPage;
+    }
+
+    /**
+     * Starts loading page unless it is loaded or loading. Pages far from the
+     * bound ones are evicted before the load starts, so the loaded page does
+     * not raise the count of pages in memory over the limit.
+     *
+     * @param page the page number
+     */
+    private void requestPage(int page) {
+        final int start = page * mPageSize;
+        if (page < 0 || start >= mItemsCount || isPageLoaded(page) || mLoadingPages.get(page)) {
+            return;
+        }
+        mLoadingPages.put(page, true);
+        trimPages(mLoadingPages.size());
+        final int count = Math.min(mPageSize, mItemsCount - start);
+        final int generation = mGeneration;
+        final int pageNumber = page;
+        mExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                List<T> items = null;
+                try {
+                    items = loadPage(start, count);
+                } catch (RuntimeException e) {
+                    Log.e(TAG, "Failed to load page " + pageNumber, e);
+                }
+                final List<T> result = items;
+                mMainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        onPageLoaded(pageNumber, generation, result);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Stores loaded page and reports its items as changed.
+     *
+     * @param page       the page number
+     * @param generation the generation the load was started in
+     * @param items      the items or null if loading failed
+     */
+    private void onPageLoaded(final int page, final int generation, List<T> items) {
+        if (generation != mGeneration) {
+            return;
+        }
+        mLoadingPages.delete(page);
+        if (items == null) {
+            // retried while the wheel binds the page, its rows are reported
+            // as changed when a retry succeeds
+            int failures = mFailures.get(page) + 1;
+            mFailures.put(page, failures);
+            mMainHandler.postDelayed(new Runnable() {
+                @Override
+                public void run() {
+                    if (generation == mGeneration && isPageBound(page)) {
+                        requestPage(page);
+                    }
+                }
+            }, RETRY_DELAY << Math.min(failures - 1, MAX_RETRY_SHIFT));
+            return;
+        }
+        mFailures.delete(page);
+        mPages.put(page, items);
+        trimPages(0);
+        if (isPageLoaded(page)) {
+            int start = page * mPageSize;
+            notifyItemRangeChanged(start, Math.min(mPageSize, mItemsCount - start));
+        }
+    }
+
+    /**
+     * Adds page to the pages bound in the current pass. A page away from the
+     * pages bound in the last pass means the wheel jumped, those pages are
+     * not kept for it any more.
+     *
+     * @param page the page number
+     */
+    private void onPageBound(int page) {
+        if (mBoundFirstPage >= 0
+                && (page < mBoundFirstPage - 1 || page > mBoundLastPage + 1)) {
+            mBoundFirstPage = -1;
+            mBoundLastPage = -1;
+        }
+        if (!mPassPending) {
+            mPassPending = true;
+            mPassFirstPage = page;
+            mPassLastPage = page;
+            mMainHandler.post(mEndPass);
+        } else {
+            mPassFirstPage = Math.min(mPassFirstPage, page);
+            mPassLastPage = Math.max(mPassLastPage, page);
+        }
+    }
+
+    /**
+     * Evicts pages farthest from the bound pages while there are too many.
+     * Bound pages of the last and the current pass are never evicted.
+     *
+     * @param reserved the count of pages to leave room for, e.g. loading ones
+     */
+    private void trimPages(int reserved) {
+        int first = mBoundFirstPage;
+        int last = mBoundLastPage;
+        if (mPassPending) {
+            first = first < 0 ? mPassFirstPage : Math.min(first, mPassFirstPage);
+            last = Math.max(last, mPassLastPage);
+        }
+        int maxPages = mMaxPages;
+        if (first >= 0) {
+            maxPages = Math.max(maxPages, last - first + 1 + PREFETCH_PAGES);
+        }
+        while (mPages.size() + reserved > maxPages && mPages.size() > 0) {
+            int farthest = -1;
+            int farthestDistance = 0;
+            for (int i = 0; i < mPages.size(); i++) {
+                int page = mPages.keyAt(i);
+                int distance = page < first ? first - page : page - last;
+                if (distance > farthestDistance) {
+                    farthest = i;
+                    farthestDistance = distance;
+                }
+            }
+            if (farthest < 0) {
+                // all pages are bound
+                return;
+            }
+            mPages.removeAt(farthest);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ *  Copyright 2011 Yuri Kanivets
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.basic.commonview.datePicker.adapter;
+
+import android.content.Context;
+
+/**
+ * Wheel adapter over the numeric range start, start + step, ... up to end.
+ * Items are not stored, values and labels are computed from the item index,
+ * so the range may hold millions of items.
+ */
+public class RangeWheelAdapter extends AbstractWheelTextAdapter {
+
+    /**
+     * Formats item values to labels.
+     */
+    public interface ValueFormatter {
+        /**
+         * Formats value.
+         *
+         * @param value the item value
+         * @return the label
+         */
+        CharSequence format(long value);
+    }
+
+    // Range
+    private long mStart;
+    private long mStep;
+    private int mCount;
+
+    // Label formatter, null for plain numbers
+    private ValueFormatter mFormatter;
+
+    private float mDefaultTextSize;
+    private int mDefaultTextColor;
+
+    /**
+     * Constructor.
+     *
+     * @param context   the current context
+     * @param start     the first value
+     * @param end       the last value, included if it is on a step
+     * @param step      the step between values, greater than 0
+     * @param formatter the label formatter, null for plain numbers
+     * @param textColor default text Color.
+     * @param textSize  default text size.
+     */
+    public RangeWheelAdapter(Context context, long start, long end, long step,
+            ValueFormatter formatter, int textColor, float textSize) {
+        super(context);
+        mFormatter = formatter;
+        mDefaultTextColor = textColor;
+        mDefaultTextSize = textSize;
+        setRange(start, end, step);
+    }
+
+    /**
+     * Sets range of values and notifies observers.
+     *
+     * @param start the first value
+     * @param end   the last value, included if it is on a step
+     * @param step  the step between values, greater than 0
+     */
+    public void setRange(long start, long end, long step) {
+        if (step <= 0) {
+            throw new IllegalArgumentException("step must be greater than 0: " + step);
+        }
+        mStart = start;
+        mStep = step;
+        mCount = end < start ? 0 : (int) Math.min(Integer.MAX_VALUE, (end - start) / step + 1);
+        notifyDataChangedEvent();
+    }
+
+    /**
+     * Sets label formatter and notifies observers.
+     *
+     * @param formatter the label formatter, null for plain numbers
+     */
+    public void setFormatter(ValueFormatter formatter) {
+        mFormatter = formatter;
+        notifyDataChangedEvent();
+    }
+
+    /**
+     * Gets value of item.
+     *
+     * @param index the item index
+     * @return the item value
+     */
+    public long getValue(int index) {
+        return mStart + index * mStep;
+    }
+
+    /**
+     * Gets index of item with the value nearest to the specified one.
+     *
+     * @param value the value
+     * @return the item index, or -1 if the range is empty
+     */
+    public int getItemIndex(long value) {
+        if (mCount == 0) {
+            return -1;
+        }
+        if (value <= mStart) {
+            return 0;
+        }
+        long index = (value - mStart + mStep / 2) / mStep;
+        return (int) Math.min(index, mCount - 1);
+    }
+
+    @Override
+    protected CharSequence getItemText(int index) {
+        long value = getValue(index);
+        return mFormatter != null ? mFormatter.format(value) : Long.toString(value);
+    }
+
+    @Override
+    public int getItemsCount() {
+        return mCount;
+    }
+
+    @Override
+    protected float getDefaultTextSize() {
+        return mDefaultTextSize;
+    }
+
+    @Override
+    protected int getDefaultTextColor() {
+        return mDefaultTextColor;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright 2011 Yuri Kanivets
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.basic.commonview.datePicker.adapter;
+
+import android.database.DataSetObserver;
+
+/**
+ * Data set observer that is also told which items changed. By default range
+ * events fall back to {@link #onChanged()}.
+ */
+public abstract class WheelDataObserver extends DataSetObserver {
+
+    /**
+     * Called when items changed their content but not their positions.
+     *
+     * @param start the first changed item
+     * @param count the count of changed items
+     */
+    public void onItemRangeChanged(int start, int count) {
+        onChanged();
+    }
+
+    /**
+     * Called when items were inserted. Items from start on moved down.
+     *
+     * @param start the position of the first inserted item
+     * @param count the count of inserted items
+     */
+    public void onItemRangeInserted(int start, int count) {
+        onChanged();
+    }
+
+    /**
+     * Called when items were removed. Items after them moved up to start.
+     *
+     * @param start the position of the first removed item
+     * @param count the count of removed items
+     */
+    public void onItemRangeRemoved(int start, int count) {
+        onChanged();
+    }
+
+    /**
+     * Called when the item style changed, e.g. text size or color. Items
+     * keep their content and positions but need to be measured again.
+     */
+    public void onStyleChanged() {
+        onChanged();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ *  Copyright 2011 Yuri Kanivets
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.basic.commonview.datePicker.adapter;
+
+import android.text.TextPaint;
+
+/**
+ * Wheel adapter whose items are plain text, so the wheel can paint them
+ * directly on the canvas instead of building item views.
+ */
+public interface WheelTextAdapter extends WheelViewAdapter {
+    /**
+     * Gets the label of the specified item.
+     *
+     * @param index the item index
+     * @return the item label or null if index is out of bounds
+     */
+    CharSequence getItemLabel(int index);
+
+    /**
+     * Configures the paint used to draw item labels. Should match the style
+     * the adapter applies to its item views.
+     *
+     * @param paint the paint to be configured
+     */
+    void configureTextPaint(TextPaint paint);
+
+    /**
+     * Gets top and bottom padding of an item, in pixels.
+     *
+     * @return the item vertical padding
+     */
+    int getItemVerticalPadding();
+
+    /**
+     * Gets count of items on each side of the current item whose labels the
+     * wheel lays out in background, so binds and draws find them ready.
+     *
+     * @return the count of items, 0 to lay out labels only when needed
+     */
+    int getPrecomputeRadius();
+}
@@ -53,6 +53,7 @@ public interface WheelViewAdapter {
 
     /**
      * Register an observer that is called when changes happen to the data used by this adapter.
+     * A {@link WheelDataObserver} is also told which items changed.
      *
      * @param observer the observer to be registered
      */
@@ -0,0 +1,41 @@
+/*
+ *  Copyright 2011 Yuri Kanivets
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.basic.commonview.datePicker.adapter;
+
+/**
+ * Wheel adapter creating views of several types. Only views of the same type
+ * are passed back to {@link #getItem} as convertView. Adapters not
+ * implementing it create views of a single type.
+ */
+public interface WheelViewTypeAdapter extends WheelViewAdapter {
+    /**
+     * Gets the type of View that will be created by {@link #getItem} for the specified item.
+     * Only views of the same type are passed back as convertView.
+     *
+     * @param index the item index
+     * @return the view type, between 0 and {@link #getViewTypeCount()} - 1
+     */
+    int getItemViewType(int index);
+
+    /**
+     * Gets the number of types of Views that will be created by {@link #getItem}.
+     * The wheel sizes its view pool for these types when the adapter is set.
+     *
+     * @return the number of view types
+     */
+    int getViewTypeCount();
+}